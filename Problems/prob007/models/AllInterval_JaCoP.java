@@ -0,0 +1,175 @@
+/*
+ *  CSPLib prob007: All-Interval Series
+ *
+ *  - Written in Java using the JaCoP solver library (v4.4.0)
+ *  - Same model, arguments and output as AllInterval_ortools.java and
+ *    AllInterval_jsr331.java, so the three can be run side by side:
+ *    x is a permutation of 0..n-1, diffs[k] = |x[k+1] - x[k]| is a
+ *    permutation of 1..n-1, with the symmetry breaking
+ *    x[0] < x[n-1] and diffs[0] < diffs[1].
+ *
+ *  Arguments: <n, default 12> [first]
+ *  e.g. $java -classpath .:jacop-4.4.0.jar AllInterval_JaCoP 12
+ *  With first, one solution is constructed in O(n) instead of all
+ *  being searched.
+ *
+ *  License: Apache License, Version 2.0
+ *
+ */
+
+import org.jacop.constraints.AbsXeqY;
+import org.jacop.constraints.Alldistinct;
+import org.jacop.constraints.XltY;
+import org.jacop.constraints.XminusYeqZ;
+import org.jacop.core.IntVar;
+import org.jacop.core.Store;
+import org.jacop.search.DepthFirstSearch;
+import org.jacop.search.IndomainMin;
+import org.jacop.search.InputOrderSelect;
+import org.jacop.search.Search;
+import org.jacop.search.SelectChoicePoint;
+import org.jacop.search.SimpleSolutionListener;
+
+import java.util.Arrays;
+
+public class AllInterval_JaCoP {
+
+    /*
+     * Prints x and its diffs, reusing out.
+     */
+    static void print(StringBuilder out, int[] sol) {
+        out.setLength(0);
+        out.append("x    : ");
+        for (int i = 0; i < sol.length; i++) {
+            out.append(sol[i]).append(' ');
+        }
+        out.append("\ndiffs: ");
+        for (int k = 0; k < sol.length - 1; k++) {
+            out.append(Math.abs(sol[k + 1] - sol[k])).append(' ');
+        }
+        out.append('\n');
+        System.out.println(out);
+    }
+
+    /*
+     * O(n) check of a series: x takes each of 0..n-1 once and its
+     * neighbours are apart by each of 1..n-1 once.
+     */
+    static boolean check(int[] x) {
+        int n = x.length;
+        boolean[] value = new boolean[n];
+        boolean[] interval = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            if (x[i] < 0 || x[i] >= n || value[x[i]]) {
+                return false;
+            }
+            value[x[i]] = true;
+            if (i > 0) {
+                int d = Math.abs(x[i] - x[i - 1]);
+                if (d == 0 || interval[d]) {
+                    return false;
+                }
+                interval[d] = true;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * One series in O(n), for first mode: the zig-zag 0, n-1, 1, n-2,
+     * ..., whose intervals are n-1, n-2, ..., 1, taken backwards and
+     * mirrored (v to n-1 - v). Its intervals then grow from 1, which
+     * keeps x[0] < x[n-1] and diffs[0] < diffs[1].
+     */
+    static int[] construct(int n) {
+        int[] x = new int[n];
+        for (int i = 0; i < n; i++) {
+            int j = n - 1 - i;
+            int z = j % 2 == 0 ? j / 2 : n - 1 - j / 2;
+            x[i] = n - 1 - z;
+        }
+        return x;
+    }
+
+    public static void main(String[] args) {
+        int n = 12;
+        if (args.length > 0) {
+            n = Integer.parseInt(args[0]);
+        }
+
+        if (args.length > 1 && args[1].equals("first")) {
+            long start = System.nanoTime();
+            int[] sol = construct(n);
+            if (!check(sol)) {
+                throw new IllegalStateException("invalid solution: " + Arrays.toString(sol));
+            }
+            long time = System.nanoTime() - start;
+            print(new StringBuilder(), sol);
+
+            // no model, so no search statistics
+            System.out.println();
+            System.out.println("Constructed, not searched");
+            System.out.println("Wall time: " + String.format("%.3f", time / 1e6) + "ms");
+            return;
+        }
+
+        long modelStart = System.currentTimeMillis();
+        Store store = new Store();
+
+        final IntVar[] x = new IntVar[n];
+        final IntVar[] diffs = new IntVar[n - 1];
+        for (int i = 0; i < n; i++) {
+            x[i] = new IntVar(store, "x" + i, 0, n - 1);
+        }
+        for (int k = 0; k < n - 1; k++) {
+            diffs[k] = new IntVar(store, "diffs" + k, 1, n - 1);
+        }
+
+        store.impose(new Alldistinct(x));
+        store.impose(new Alldistinct(diffs));
+
+        for (int k = 0; k < n - 1; k++) {
+            IntVar d = new IntVar(store, "d" + k, -(n - 1), n - 1);
+            store.impose(new XminusYeqZ(x[k + 1], x[k], d));
+            store.impose(new AbsXeqY(d, diffs[k]));
+        }
+
+        // symmetry breaking
+        store.impose(new XltY(x[0], x[n - 1]));
+        store.impose(new XltY(diffs[0], diffs[1]));
+        System.out.println("Model time: " + (System.currentTimeMillis() - modelStart) + "ms");
+
+        // same strategy as the OR-tools model: first unbound, min value
+        Search<IntVar> search = new DepthFirstSearch<>();
+        SelectChoicePoint<IntVar> select = new InputOrderSelect<>(store, x, new IndomainMin<>());
+        final StringBuilder out = new StringBuilder();
+        final int[] sol = new int[n];
+        search.setSolutionListener(new SimpleSolutionListener<IntVar>() {
+            @Override
+            public boolean executeAfterSolution(Search<IntVar> search, SelectChoicePoint<IntVar> select) {
+                boolean result = super.executeAfterSolution(search, select);
+                for (int i = 0; i < x.length; i++) {
+                    sol[i] = x[i].value();
+                }
+                if (!check(sol)) {
+                    throw new IllegalStateException("invalid solution: " + Arrays.toString(sol));
+                }
+                print(out, sol);
+                return result;
+            }
+        });
+        search.getSolutionListener().searchAll(true);
+        search.setPrintInfo(false);
+
+        long start = System.currentTimeMillis();
+        search.labeling(store, select);
+        long time = System.currentTimeMillis() - start;
+
+        // Statistics
+        System.out.println();
+        System.out.println("Solutions: " + search.getSolutionListener().solutionsNo());
+        System.out.println("Failures: " + search.getWrongDecisions());
+        System.out.println("Branches: " + search.getDecisions());
+        System.out.println("Wall time: " + time + "ms");
+    }
+}
@@ -62,10 +62,33 @@ public class AllInterval {
             n_in = Integer.parseInt(args[0]);
         }
 
+        // "first": one constructed solution instead of all by search
+        if (args.length >= 2 && args[1].equals("first")) {
+            System.out.println("\nn: " + n_in + "\n");
+            long start = System.nanoTime();
+            int[] sol = construct(n_in);
+            if (!check(sol)) {
+                throw new IllegalStateException("invalid solution: " + Arrays.toString(sol));
+            }
+            long time = System.nanoTime() - start;
+            for(int i = 0; i < n_in; i++) {
+                System.out.print(sol[i] + " ");
+            }
+            System.out.println();
+            System.out.println("\nConstructed, not searched\n");
+            System.out.println("Wall time: " + String.format("%.3f", time / 1e6) + "ms");
+            return;
+        }
+
         System.out.println("\nn: " + n_in + "\n");
+        long start = System.currentTimeMillis();
         AllInterval allInterval = new AllInterval();
         allInterval.define(n_in);
+        System.out.println("Model time: " + (System.currentTimeMillis() - start) + "ms");
+
+        start = System.currentTimeMillis();
         allInterval.solve();
+        System.out.println("Search time: " + (System.currentTimeMillis() - start) + "ms");
 
     }
 
@@ -97,7 +120,8 @@ public class AllInterval {
     }
     
     
-    public void solve() {
+    // The search of solve(), as an iterator over the solutions.
+    public SolutionIterator solutions() {
         //
         // search
         //
@@ -139,18 +163,32 @@ public class AllInterval {
         // solver.addSearchStrategy(new StrategyLogVariables(solver)); 
         // solver.traceExecution(true);
 
+        return solver.solutionIterator();
+    }
+
+
+    public void solve() {
+        Solver solver = p.getSolver();
+
         //
         // solve
         //        
         int num_sols = 0;
-        SolutionIterator iter = solver.solutionIterator();
+        int[] sol = new int[n];
+        SolutionIterator iter = solutions();
         while (iter.hasNext()) {
             num_sols++;
             Solution s = iter.next();
 
             // s.log();
             for(int i = 0; i < n; i++) {
-                System.out.print(s.getValue("x-"+i) + " ");
+                sol[i] = s.getValue("x-"+i);
+            }
+            if (!check(sol)) {
+                throw new IllegalStateException("invalid solution: " + Arrays.toString(sol));
+            }
+            for(int i = 0; i < n; i++) {
+                System.out.print(sol[i] + " ");
             }
             System.out.println();
 
@@ -161,4 +199,43 @@ public class AllInterval {
         solver.logStats();
     }
 
+
+    // One series in O(n) for "first", in the domain 1..n: the zig-zag
+    // 1, n, 2, n-1, ... has the intervals n-1, n-2, ..., 1; taken
+    // backwards and mirrored (n+1 - v) it starts with the interval 1,
+    // as the symmetry breaking x[0] < x[n-1], diffs[0] < diffs[1] needs.
+    static int[] construct(int n) {
+        int[] x = new int[n];
+        for(int i = 0; i < n; i++) {
+            int j = n - 1 - i;
+            int z = j % 2 == 0 ? j / 2 : n - 1 - j / 2;
+            x[i] = n - z;
+        }
+        return x;
+    }
+
+
+    // O(n) check that x is an all-interval series in this model's
+    // domain: each of 1..n once, and each interval 1..n-1 once between
+    // neighbours.
+    static boolean check(int[] x) {
+        int n = x.length;
+        boolean[] value = new boolean[n+1];
+        boolean[] interval = new boolean[n];
+        for(int i = 0; i < n; i++) {
+            if (x[i] < 1 || x[i] > n || value[x[i]]) {
+                return false;
+            }
+            value[x[i]] = true;
+            if (i > 0) {
+                int d = Math.abs(x[i] - x[i-1]);
+                if (d == 0 || interval[d]) {
+                    return false;
+                }
+                interval[d] = true;
+            }
+        }
+        return true;
+    }
+
 }
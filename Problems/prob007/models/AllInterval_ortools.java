@@ -29,16 +29,12 @@ public class AllInterval {
 
 
   /**
-   * 
-   * Implements the all interval problem.
-   * See http://www.hakank.org/google_or_tools/all_interval.py
+   *
+   * Builds the all interval model on solver and returns x.
    *
    */
-  private static void solve(int n) {
-
-    Solver solver = new Solver("AllInterval");
+  static IntVar[] model(Solver solver, int n) {
 
-        
     // 
     // variables
     //
@@ -62,6 +58,21 @@ public class AllInterval {
     solver.addConstraint(solver.makeLess(x[0], x[n - 1]));
     solver.addConstraint(solver.makeLess(diffs[0], diffs[1]));
 
+    return x;
+  }
+
+  /**
+   * 
+   * Implements the all interval problem.
+   * See http://www.hakank.org/google_or_tools/all_interval.py
+   *
+   */
+  private static void solve(int n) {
+
+    long start = System.currentTimeMillis();
+    Solver solver = new Solver("AllInterval");
+    IntVar[] x = model(solver, n);
+    System.out.println("Model time: " + (System.currentTimeMillis() - start) + "ms");
 
     //
     // search
@@ -75,18 +86,18 @@ public class AllInterval {
     //
     // output
     //
+    // x is read once per solution into a reused array; the diffs
+    // follow from x, so they are computed here instead of read back
+    int[] sol = new int[n];
+    StringBuilder out = new StringBuilder();
     while (solver.nextSolution()) {
-      System.out.print("x    : ");
       for(int i = 0; i < n; i++) {
-        System.out.print(x[i].value() + " ");
+        sol[i] = (int)x[i].value();
       }
-      System.out.print("\ndiffs: ");
-
-      for(int i = 0; i < n-1; i++) {
-        System.out.print(diffs[i].value() + " ");
+      if (!check(sol)) {
+        throw new IllegalStateException("invalid solution: " + Arrays.toString(sol));
       }
-      System.out.println("\n");
-
+      print(out, sol);
     }
     solver.endSearch();
 
@@ -99,6 +110,91 @@ public class AllInterval {
 
   }
 
+  /**
+   *
+   * Prints x and its diffs, reusing out.
+   *
+   */
+  static void print(StringBuilder out, int[] sol) {
+    out.setLength(0);
+    out.append("x    : ");
+    for(int i = 0; i < sol.length; i++) {
+      out.append(sol[i]).append(' ');
+    }
+    out.append("\ndiffs: ");
+
+    for(int i = 0; i < sol.length - 1; i++) {
+      out.append(Math.abs(sol[i + 1] - sol[i])).append(' ');
+    }
+    out.append('\n');
+    System.out.println(out);
+  }
+
+  /**
+   *
+   * O(n) check that x is an all-interval series: a permutation of
+   * 0..n-1 whose neighbouring intervals are a permutation of 1..n-1.
+   *
+   */
+  static boolean check(int[] x) {
+    int n = x.length;
+    boolean[] value = new boolean[n];
+    boolean[] interval = new boolean[n];
+    for(int i = 0; i < n; i++) {
+      if (x[i] < 0 || x[i] >= n || value[x[i]]) {
+        return false;
+      }
+      value[x[i]] = true;
+      if (i > 0) {
+        int d = Math.abs(x[i] - x[i - 1]);
+        if (d == 0 || interval[d]) {
+          return false;
+        }
+        interval[d] = true;
+      }
+    }
+    return true;
+  }
+
+  /**
+   *
+   * One solution in O(n), without search. The zig-zag
+   * z = 0, n-1, 1, n-2, ... has the intervals n-1, n-2, ..., 1;
+   * reversed and mirrored, x[i] = n-1 - z[n-1-i], it has the intervals
+   * 1, 2, ..., n-1 and meets the symmetry breaking x[0] < x[n-1] and
+   * diffs[0] < diffs[1] as well.
+   *
+   */
+  static int[] construct(int n) {
+    int[] x = new int[n];
+    for(int i = 0; i < n; i++) {
+      int j = n - 1 - i;
+      int z = j % 2 == 0 ? j / 2 : n - 1 - j / 2;
+      x[i] = n - 1 - z;
+    }
+    return x;
+  }
+
+  /**
+   *
+   * Prints the constructed solution, checked, and the time that took;
+   * the model is not built, so there are no search statistics.
+   *
+   */
+  private static void first(int n) {
+    long start = System.nanoTime();
+    int[] sol = construct(n);
+    if (!check(sol)) {
+      throw new IllegalStateException("invalid solution: " + Arrays.toString(sol));
+    }
+    long time = System.nanoTime() - start;
+    print(new StringBuilder(), sol);
+
+    System.out.println();
+    System.out.println("Constructed, not searched");
+    System.out.println("Wall time: " + String.format("%.3f", time / 1e6) + "ms");
+  }
+
   public static void main(String[] args) throws Exception {
 
     int n = 12;
@@ -106,6 +202,11 @@ public class AllInterval {
       n = Integer.parseInt(args[0]);
     }
 
-    AllInterval.solve(n);
+    // "first": one constructed solution instead of all by search
+    if (args.length > 1 && args[1].equals("first")) {
+      AllInterval.first(n);
+    } else {
+      AllInterval.solve(n);
+    }
   }
 }
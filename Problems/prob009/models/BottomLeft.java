@@ -0,0 +1,224 @@
+/*
+ *  CSPLib prob009: Perfect Square Placement
+ *
+ *  - Bottom-left corner search in plain Java, to compare with the
+ *    two-phase X/Y labeling of the JaCoP model in prob009.java
+ *
+ *  In a perfect placement the lowest, leftmost empty point of the
+ *  master square is always the bottom-left corner of some square, so
+ *  the search only ever fills that corner: it tries each remaining
+ *  square that fits in the gap there (widest first) and backtracks
+ *  when none fits. The filled area is kept as a skyline, one height
+ *  per column, so the corner, the gap width and the fit checks need no
+ *  propagation. Squares of equal size are interchangeable, so only
+ *  the first unused square of each size is tried at a corner.
+ *
+ *  The bottom of every well of the skyline (a flat stretch with higher
+ *  columns or the border on both sides) can only be covered by squares
+ *  standing on it side by side, so its width must be a sum of distinct
+ *  unused sizes. A node where some well fails this subset-sum check is
+ *  a dead end.
+ *
+ *  Arguments: <Problem instance, integer:[0,203]> <Complete Search, boolean>
+ *             or bench [from] [to] [CP time out, seconds, default 10]
+ *  e.g. $java -classpath .;commons-lang3-*.jar;jacop-4.4.0.jar BottomLeft 179 true
+ *
+ *  License: MIT
+ *
+ */
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.Arrays;
+
+public class BottomLeft {
+    final int N;
+    final Integer[] S;
+    final int[] x;
+    final int[] y;
+    final boolean[] used;
+    final int[] skyline;
+    final long[] sums;
+    final boolean searchAll;
+    int[][] first;
+    long solutions;
+    long nodes;
+    long failures;
+
+    /*
+     * S is sorted from large to small, as the largest squares are the
+     * most constrained.
+     */
+    BottomLeft(int N, Integer[] sizes, boolean searchAll) {
+        this.N = N;
+        this.S = sizes.clone();
+        Arrays.sort(S, (a, b) -> b - a);
+        this.x = new int[S.length];
+        this.y = new int[S.length];
+        this.used = new boolean[S.length];
+        this.skyline = new int[N];
+        this.sums = new long[N / 64 + 1];
+        this.searchAll = searchAll;
+    }
+
+    /*
+     * Whether every well of the skyline has a width that is a sum of
+     * distinct unused sizes. The sums are a bit set, bit w for width w.
+     */
+    boolean wellsFillable() {
+        Arrays.fill(sums, 0);
+        sums[0] = 1;
+        for (int i = 0; i < S.length; i++) {
+            if (used[i])
+                continue;
+            // sums |= sums << S[i], from the top word down
+            int words = S[i] / 64;
+            int bits = S[i] % 64;
+            for (int k = sums.length - 1; k >= words; k--) {
+                long shifted = sums[k - words] << bits;
+                if (bits > 0 && k - words - 1 >= 0)
+                    shifted |= sums[k - words - 1] >>> (64 - bits);
+                sums[k] |= shifted;
+            }
+        }
+        int c = 0;
+        while (c < N) {
+            int start = c;
+            while (c < N && skyline[c] == skyline[start])
+                c++;
+            boolean leftWall = start == 0 || skyline[start - 1] > skyline[start];
+            boolean rightWall = c == N || skyline[c] > skyline[start];
+            int width = c - start;
+            if (leftWall && rightWall && (sums[width / 64] & (1L << (width % 64))) == 0)
+                return false;
+        }
+        return true;
+    }
+
+    /*
+     * Places the remaining squares; returns true to stop the search.
+     */
+    boolean search(int placed) {
+        if (placed == S.length) {
+            if (!Solver.Check(N, S, x, y))
+                throw new IllegalStateException("Invalid solution #" + (solutions + 1));
+            solutions++;
+            if (first == null)
+                first = new int[][] { x.clone(), y.clone() };
+            return !searchAll;
+        }
+        nodes++;
+        if (!wellsFillable()) {
+            failures++;
+            return false;
+        }
+
+        // lowest, leftmost corner and the width of the gap there
+        int cx = 0;
+        for (int c = 1; c < N; c++) {
+            if (skyline[c] < skyline[cx])
+                cx = c;
+        }
+        int cy = skyline[cx];
+        int width = 1;
+        while (cx + width < N && skyline[cx + width] == cy)
+            width++;
+
+        int tried = -1;
+        for (int i = 0; i < S.length; i++) {
+            int s = S[i];
+            if (used[i] || s == tried || s > width || cy + s > N)
+                continue;
+            tried = s;
+            used[i] = true;
+            x[i] = cx;
+            y[i] = cy;
+            for (int c = cx; c < cx + s; c++)
+                skyline[c] += s;
+            boolean stop = search(placed + 1);
+            for (int c = cx; c < cx + s; c++)
+                skyline[c] -= s;
+            used[i] = false;
+            if (stop)
+                return true;
+        }
+        if (tried < 0)
+            failures++;
+        return false;
+    }
+
+    /*
+     * Returns {solutions, nodes, failures, search time in ms}.
+     */
+    long[] solve() {
+        long start = System.currentTimeMillis();
+        search(0);
+        return new long[] { solutions, nodes, failures, System.currentTimeMillis() - start };
+    }
+
+    /*
+     * Both searches for the first solution of instances from..to, one
+     * line per instance.
+     */
+    static void bench(int from, int to, int timeOut) {
+        System.out.format("%4s %4s %3s | %10s %10s %8s | %10s %10s %8s%n",
+                "id", "N", "n", "bl_nodes", "bl_fails", "bl_ms", "cp_nodes", "cp_fails", "cp_ms");
+        long blTime = 0;
+        long cpTime = 0;
+        int cpTimeOuts = 0;
+        for (int id = from; id <= to; id++) {
+            Pair<Integer, Integer[]> data = Solver.instances[id];
+            long[] bl = new BottomLeft(data.getLeft(), data.getRight(), false).solve();
+            long[] cp = Solver.Solve(data, false, false, timeOut);
+            boolean timedOut = cp[0] == 0;
+            blTime += bl[3];
+            cpTime += cp[4];
+            if (timedOut)
+                cpTimeOuts++;
+            System.out.format("%4d %4d %3d | %10d %10d %8d | %10d %10d %8d%s%n",
+                    id, data.getLeft(), data.getRight().length,
+                    bl[1], bl[2], bl[3], cp[1], cp[2], cp[4], timedOut ? " timeout" : "");
+        }
+        System.out.println();
+        System.out.println("Bottom-left search time: " + blTime + "ms");
+        System.out.println("Two-phase search time: " + cpTime + "ms (" + cpTimeOuts + " time outs)");
+    }
+
+    public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("bench")) {
+            int from = args.length > 1 ? Integer.valueOf(args[1]) : 0;
+            int to = args.length > 2 ? Integer.valueOf(args[2]) : Solver.instances.length - 1;
+            int timeOut = args.length > 3 ? Integer.valueOf(args[3]) : 10;
+            bench(Math.max(0, from), Math.min(to, Solver.instances.length - 1), timeOut);
+            return;
+        }
+
+        int id = 0;
+        if (args.length > 0) {
+            id = args[0].matches("\\d{1,9}") ? Integer.valueOf(args[0]) : -1;
+            if (id >= Solver.instances.length)
+                id = -1;
+        }
+        if (id < 0) {
+            System.err.println("Invalid first argument " + args[0] + ", use an integer eg. 0, 1, ..., "
+                    + (Solver.instances.length - 1));
+            System.err.println("Arguments: <Problem instance, integer:[0,203]> <Complete Search, boolean>"
+                    + " or bench [from] [to] [CP time out]");
+            System.exit(1);
+        }
+        boolean search_all = args.length > 1 && Boolean.valueOf(args[1]);
+
+        Pair<Integer, Integer[]> data = Solver.instances[id];
+        BottomLeft search = new BottomLeft(data.getLeft(), data.getRight(), search_all);
+        long[] stats = search.solve();
+        if (search.first != null) {
+            for (int i = 0; i < search.S.length; i++)
+                System.out.println(search.S[i] + " at (" + search.first[0][i] + ", " + search.first[1][i] + ")");
+            System.out.println();
+        }
+        System.out.println("Solutions: " + stats[0]);
+        System.out.println("Nodes: " + stats[1]);
+        System.out.println("Failures: " + stats[2]);
+        System.out.println("Search time: " + stats[3] + "ms");
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ *  CSPLib prob009: Perfect Square Placement
+ *
+ *  - Generates solvable instances of a chosen size N and number of
+ *    squares, for load testing the JaCoP model in prob009.java
+ *
+ *  An instance is made by dissecting the N x N square: a square is cut
+ *  in two rectangles, vertically or horizontally, and each rectangle
+ *  is tiled with squares the way Euclid's algorithm does (the largest
+ *  square that fits, repeatedly). Squares are picked for cutting with
+ *  a probability proportional to their area, and only cuts that do not
+ *  overshoot the wanted number of squares are taken. The dissection is
+ *  a witness that the instance has a solution; it is checked with
+ *  Solver.Check. Unlike the instances table, sizes may repeat.
+ *
+ *  The same seed gives the same instances. They are written one per
+ *  line as "N s1 s2 ... sk" with the sizes ascending, which
+ *  "Solver <file>:<line>" loads.
+ *
+ *  Arguments: <out file> <N> <squares> [instances, default 1] [seed, default 1]
+ *             or bench <file> [CP time out, seconds, default 10]
+ *  e.g. $java -classpath .;commons-lang3-*.jar;jacop-4.4.0.jar InstanceGenerator big.txt 2000 40 10 7
+ *
+ *  License: MIT
+ *
+ */
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class InstanceGenerator {
+
+    /*
+     * Tiles the w x h rectangle at (x, y) with squares {x, y, side},
+     * largest first, and adds them to squares.
+     */
+    static void Euclid(int x, int y, int w, int h, List<int[]> squares) {
+        while (w > 0 && h > 0) {
+            if (w >= h) {
+                squares.add(new int[] { x, y, h });
+                x += h;
+                w -= h;
+            } else {
+                squares.add(new int[] { x, y, w });
+                y += w;
+                h -= w;
+            }
+        }
+    }
+
+    /*
+     * The number of squares Euclid tiles a w x h rectangle with.
+     */
+    static int Count(int w, int h) {
+        int count = 0;
+        while (w > 0 && h > 0) {
+            if (w >= h) {
+                count += w / h;
+                w %= h;
+            } else {
+                count += h / w;
+                h %= w;
+            }
+        }
+        return count;
+    }
+
+    /*
+     * The squares of cutting square at a, vertically or horizontally.
+     */
+    static List<int[]> Cut(int[] square, int a, boolean vertical) {
+        List<int[]> parts = new ArrayList<>();
+        int x = square[0];
+        int y = square[1];
+        int s = square[2];
+        if (vertical) {
+            Euclid(x, y, a, s, parts);
+            Euclid(x + a, y, s - a, s, parts);
+        } else {
+            Euclid(x, y, s, a, parts);
+            Euclid(x, y + a, s, s - a, parts);
+        }
+        return parts;
+    }
+
+    /*
+     * A dissection of the N x N square into exactly k squares
+     * {x, y, side}. There is none for k = 2, 3 or 5, or k > N * N, and
+     * for small N not every other k is reachable by these cuts.
+     */
+    static List<int[]> Generate(int N, int k, Random random) {
+        if (k < 1 || k == 2 || k == 3 || k == 5 || (long) k > (long) N * N)
+            throw new IllegalArgumentException("No dissection of " + N + " into " + k + " squares");
+
+        for (int attempt = 0; attempt < 100; attempt++) {
+            List<int[]> squares = new ArrayList<>();
+            squares.add(new int[] { 0, 0, N });
+            while (squares.size() < k) {
+                int room = k - squares.size() + 1;
+                int pick = -1;
+                List<int[]> parts = null;
+
+                // random cuts of squares picked by area
+                long area = 0;
+                for (int[] q : squares)
+                    area += (long) q[2] * q[2];
+                for (int tries = 0; tries < 50 && parts == null; tries++) {
+                    long r = (long) (random.nextDouble() * area);
+                    int i = 0;
+                    while (r >= (long) squares.get(i)[2] * squares.get(i)[2]) {
+                        r -= (long) squares.get(i)[2] * squares.get(i)[2];
+                        i++;
+                    }
+                    int s = squares.get(i)[2];
+                    // a random cut among those that do not overshoot
+                    List<Integer> fits = new ArrayList<>();
+                    for (int a = 1; a < s; a++) {
+                        if (Count(a, s) + Count(s - a, s) <= room)
+                            fits.add(a);
+                    }
+                    if (!fits.isEmpty()) {
+                        pick = i;
+                        parts = Cut(squares.get(i), fits.get(random.nextInt(fits.size())), random.nextBoolean());
+                    }
+                }
+
+                // otherwise the first cut that fits, if there is one
+                for (int i = 0; i < squares.size() && parts == null; i++) {
+                    int s = squares.get(i)[2];
+                    for (int a = 1; a < s && parts == null; a++) {
+                        if (Count(a, s) + Count(s - a, s) <= room) {
+                            pick = i;
+                            parts = Cut(squares.get(i), a, true);
+                        }
+                    }
+                }
+                if (parts == null)
+                    break;
+                squares.remove(pick);
+                squares.addAll(parts);
+            }
+            if (squares.size() == k)
+                return squares;
+        }
+        throw new IllegalStateException("No dissection of " + N + " into " + k + " squares found");
+    }
+
+    /*
+     * The sizes of a dissection, ascending, after checking it.
+     */
+    static Integer[] Sizes(int N, List<int[]> squares) {
+        int n = squares.size();
+        Integer[] S = new Integer[n];
+        int[] x = new int[n];
+        int[] y = new int[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = squares.get(i)[0];
+            y[i] = squares.get(i)[1];
+            S[i] = squares.get(i)[2];
+        }
+        if (!Solver.Check(N, S, x, y))
+            throw new IllegalStateException("Invalid dissection of " + N);
+        Arrays.sort(S);
+        return S;
+    }
+
+    /*
+     * The sum of each heap pool's peak use since the last reset. The
+     * pools need not peak at the same time, so this is an upper bound
+     * on the peak of the whole heap.
+     */
+    static long PeakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP)
+                peak += pool.getPeakUsage().getUsed();
+        }
+        return peak;
+    }
+
+    static void ResetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP)
+                pool.resetPeakUsage();
+        }
+    }
+
+    /*
+     * Searches a first solution of every instance in the file, one line
+     * per instance, for time and memory against N and square count.
+     * alloc_kb and B/node are what the search allocated on this thread,
+     * model building excluded.
+     */
+    static void Bench(String path, int timeOut) throws IOException {
+        Pair<Integer, Integer[]>[] instances = Solver.Load(path);
+        System.out.format("%4s %6s %4s %10s %10s %10s %10s %10s %10s %8s%n",
+                "line", "N", "n", "model_ms", "search_ms", "nodes", "failures", "peak_kb", "alloc_kb", "B/node");
+        for (int i = 0; i < instances.length; i++) {
+            System.gc();
+            ResetPeakHeap();
+            long[] stats = Solver.Solve(instances[i], false, false, timeOut);
+            System.out.format("%4d %6d %4d %10d %10d %10d %10d %10d %10d %8.1f%s%n",
+                    i, instances[i].getLeft(), instances[i].getRight().length,
+                    stats[3], stats[4], stats[1], stats[2], PeakHeap() / 1024,
+                    stats[5] < 0 ? -1 : stats[5] / 1024,
+                    stats[5] < 0 ? -1 : (double) stats[5] / Math.max(1, stats[1]),
+                    stats[0] == 0 ? " timeout" : "");
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length > 1 && args[0].equals("bench")) {
+            Bench(args[1], args.length > 2 ? Integer.valueOf(args[2]) : 10);
+            return;
+        }
+        if (args.length < 3) {
+            System.err.println("Arguments: <out file> <N> <squares> [instances] [seed] or bench <file> [time out]");
+            System.exit(1);
+        }
+
+        int N = Integer.valueOf(args[1]);
+        int k = Integer.valueOf(args[2]);
+        int count = args.length > 3 ? Integer.valueOf(args[3]) : 1;
+        long seed = args.length > 4 ? Long.valueOf(args[4]) : 1;
+
+        Random random = new Random(seed);
+        PrintWriter out = new PrintWriter(new FileWriter(new File(args[0])));
+        try {
+            for (int i = 0; i < count; i++) {
+                Integer[] S = Sizes(N, Generate(N, k, random));
+                StringBuilder line = new StringBuilder().append(N);
+                for (Integer s : S)
+                    line.append(' ').append(s);
+                out.println(line);
+            }
+        } finally {
+            out.close();
+        }
+        System.out.println(count + " instances of N = " + N + " with " + k + " squares written to " + args[0]);
+    }
+}
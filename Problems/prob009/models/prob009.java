@@ -4,8 +4,17 @@
  *  - The following code is written in Java using the JaCoP solver library (v4.4.0) and Apache Commons
  *  - The program at the end provides a Window to inspect the solution (+ mouse-wheel zoom)
  *  
- *  Arguments: <Problem instance, integer:[0,203]> <Complete Search, boolean>
+ *  Arguments: <Problem instance, integer:[0,203] or file[:line]> <Complete Search, boolean> [split] [profile=P]
  *  e.g. $java -classpath .;commons-lang3-*.jar;jacop-4.4.0.jar Solver 179 true
+ *  With split, all solutions are searched twice, split on the position
+ *  of the largest square: once rebuilding the model per sub-search and
+ *  once reusing one propagated root, to compare construction times,
+ *  with the profile given or picked by auto. split enumerates all
+ *  solutions, so it needs Complete Search true.
+ *  The sub-searches run one after another: reusing the root does not
+ *  parallelize, as JaCoP has no store snapshot or clone.
+ *  P is DIFF2, DIFF2_TIMETABLE, DIFF2_CUMULATIVE (the default), DIFF2_AREA or auto:
+ *  a short node-limited probe with every profile picks one.
  *  
  *  Author: Theophilus Mouratides (github.com/thmour/)
  *  Date: 7-September-2016
@@ -19,8 +28,13 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.jacop.constraints.Constraint;
 import org.jacop.constraints.Cumulative;
 import org.jacop.constraints.Diff2;
+import org.jacop.constraints.In;
+import org.jacop.constraints.Reified;
+import org.jacop.constraints.SumWeight;
 import org.jacop.core.Domain;
+import org.jacop.core.IntDomain;
 import org.jacop.core.IntVar;
+import org.jacop.core.IntervalDomain;
 import org.jacop.core.Store;
 import org.jacop.search.DepthFirstSearch;
 import org.jacop.search.IndomainMin;
@@ -42,6 +56,13 @@ import java.awt.geom.AffineTransform;
 import java.awt.geom.NoninvertibleTransformException;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 
 import javax.swing.JFrame;
@@ -53,11 +74,28 @@ import javax.swing.SwingUtilities;
 public class Solver {
     public static final int window_size = 650;
     
-    private static void Solve(Pair<Integer, Integer[]> data, boolean searchAll) {
-        int N = data.getLeft();
-        Integer[] S = data.getRight();
+    /*
+     * Which constraints the model posts, weakest first. Diff2 alone is
+     * a correct model; the rest is redundant and trades propagation
+     * time for search. DIFF2_TIMETABLE is cheaper and weaker than the
+     * default, DIFF2_AREA stronger.
+     */
+    enum Profile {
+        DIFF2,                 // Diff2 only
+        DIFF2_TIMETABLE,       // plus Cumulative with profile (timetable) reasoning only
+        DIFF2_CUMULATIVE,      // plus Cumulative with edge finding as well (the default)
+        DIFF2_AREA             // plus every column and row filled exactly, see Area
+    }
+
+    /*
+     * Posts the model for the sizes S on store and returns {X, Y}.
+     */
+    static IntVar[][] Model(Store store, int N, Integer[] S) {
+        return Model(store, N, S, Profile.DIFF2_CUMULATIVE);
+    }
+
+    static IntVar[][] Model(Store store, int N, Integer[] S, Profile profile) {
         int nsquares = S.length;
-        Store store = new Store();
 
         IntVar[] X = new IntVar[nsquares];
         IntVar[] Y = new IntVar[nsquares];
@@ -67,8 +105,6 @@ public class Solver {
 
         IntVar L = new IntVar(store, N, N);
 
-        ArrayUtils.reverse(S);
-
         for (int i = 0; i < nsquares; i++) {
             X[i] = new IntVar(store, "X" + i, 0, N - S[i]);
             Y[i] = new IntVar(store, "Y" + i, 0, N - S[i]);
@@ -78,12 +114,78 @@ public class Solver {
         }
 
         Constraint ctr1 = new Diff2(X, Y, W, H);
-        Constraint ctr2 = new Cumulative(X, W, H, L);
-        Constraint ctr3 = new Cumulative(Y, W, H, L);
-        
         ctr1.impose(store);
-        ctr2.impose(store);
-        ctr3.impose(store);
+        if (profile == Profile.DIFF2_TIMETABLE) {
+            Constraint ctr2 = new Cumulative(X, W, H, L, false, true);
+            Constraint ctr3 = new Cumulative(Y, W, H, L, false, true);
+            ctr2.impose(store);
+            ctr3.impose(store);
+        } else if (profile == Profile.DIFF2_CUMULATIVE || profile == Profile.DIFF2_AREA) {
+            Constraint ctr2 = new Cumulative(X, W, H, L);
+            Constraint ctr3 = new Cumulative(Y, W, H, L);
+            ctr2.impose(store);
+            ctr3.impose(store);
+        }
+        if (profile == Profile.DIFF2_AREA) {
+            Area(store, N, S, X, L);
+            Area(store, N, S, Y, L);
+        }
+        return new IntVar[][] { X, Y };
+    }
+
+    /*
+     * Area reasoning along one axis. The squares' areas add up to
+     * N * N, so a placement leaves no gap: the squares over every
+     * column c (or row, for Y) have sizes summing to exactly N, where
+     * Cumulative only bounds them by N. b[i] is whether square i
+     * covers c, so a column that the squares still able to reach it
+     * cannot fill, or would overfill, fails at once. This posts N * n
+     * reified constraints per axis, which is its propagation cost.
+     */
+    static void Area(Store store, int N, Integer[] S, IntVar[] X, IntVar L) {
+        int nsquares = S.length;
+        long area = 0;
+        for (int i = 0; i < nsquares; i++)
+            area += (long) S[i] * S[i];
+        if (area != (long) N * N)
+            return; // not a perfect placement instance, nothing to add
+
+        int[] weights = new int[nsquares];
+        for (int i = 0; i < nsquares; i++)
+            weights[i] = S[i];
+        for (int c = 0; c < N; c++) {
+            IntVar[] b = new IntVar[nsquares];
+            for (int i = 0; i < nsquares; i++) {
+                b[i] = new IntVar(store, 0, 1);
+                store.impose(new Reified(new In(X[i], new IntervalDomain(c - S[i] + 1, c)), b[i]));
+            }
+            store.impose(new SumWeight(b, weights, L));
+        }
+    }
+
+    /*
+     * Builds and searches the model. With show set, prints the
+     * statistics and opens a window per solution. A positive timeOut
+     * (seconds) stops the search early. Returns {solutions, nodes,
+     * failures, model time, search time, bytes the search allocated},
+     * times in ms, bytes -1 if the JVM does not count them.
+     */
+    static long[] Solve(Pair<Integer, Integer[]> data, boolean searchAll, boolean show, int timeOut) {
+        return Solve(data, searchAll, show, timeOut, Profile.DIFF2_CUMULATIVE);
+    }
+
+    static long[] Solve(Pair<Integer, Integer[]> data, boolean searchAll, boolean show, int timeOut, Profile profile) {
+        int N = data.getLeft();
+        Integer[] S = data.getRight().clone();
+        long start = System.currentTimeMillis();
+        Store store = new Store();
+
+        ArrayUtils.reverse(S);
+
+        IntVar[][] XY = Model(store, N, S, profile);
+        IntVar[] X = XY[0];
+        IntVar[] Y = XY[1];
+        long modelTime = System.currentTimeMillis() - start;
         
         Search<IntVar> searchX = new DepthFirstSearch<IntVar>();
         Search<IntVar> searchY = new DepthFirstSearch<IntVar>();
@@ -94,18 +196,241 @@ public class Solver {
         
         if(searchAll)
             searchX.getSolutionListener().searchAll(true);
+        if(timeOut > 0) {
+            searchX.setTimeOut(timeOut);
+            searchY.setTimeOut(timeOut);
+        }
         
         searchX.getSolutionListener().recordSolutions(true);
         searchY.getSolutionListener().recordSolutions(true);
         searchX.setPrintInfo(false);
         searchY.setPrintInfo(false);
+        long allocated = AllocatedBytes();
+        start = System.currentTimeMillis();
         searchX.labeling(store, labelX);
-        for (int sid = 1; sid <= searchX.getSolutionListener().solutionsNo(); sid++) {
-            SwingUtilities.invokeLater((new Solver()).new 
-                    Window(sid-1, window_size, N, searchX.getSolution(sid), searchY.getSolution(sid), S));
+        long searchTime = System.currentTimeMillis() - start;
+        allocated = allocated < 0 ? -1 : AllocatedBytes() - allocated;
+
+        int solutions = searchX.getSolutionListener().solutionsNo();
+        long nodes = searchX.getNodes() + searchY.getNodes();
+        long failures = searchX.getWrongDecisions() + searchY.getWrongDecisions();
+        for (int sid = 1; sid <= solutions; sid++) {
+            if (!Check(N, S, searchX.getSolution(sid), searchY.getSolution(sid)))
+                throw new IllegalStateException("Invalid solution #" + sid);
+        }
+        if (show) {
+            System.out.println("Solutions: " + solutions);
+            System.out.println("Nodes: " + nodes);
+            System.out.println("Failures: " + failures);
+            System.out.println("Model time: " + modelTime + "ms");
+            System.out.println("Search time: " + searchTime + "ms");
+            for (int sid = 1; sid <= solutions; sid++) {
+                SwingUtilities.invokeLater((new Solver()).new 
+                        Window(sid-1, window_size, N, searchX.getSolution(sid), searchY.getSolution(sid), S));
+            }
+        }
+        return new long[] { solutions, nodes, failures, modelTime, searchTime, allocated };
+    }
+
+    /*
+     * Heap bytes allocated so far by the current thread, or -1 when
+     * the JVM does not count them.
+     */
+    static long AllocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean t = (com.sun.management.ThreadMXBean) threads;
+            if (t.isThreadAllocatedMemorySupported() && t.isThreadAllocatedMemoryEnabled())
+                return t.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+    
+    /*
+     * A short first-solution search with each profile, at most nodes
+     * nodes per phase. Returns per profile {solved, nodes, failures,
+     * time in ms}.
+     */
+    static long[][] Probe(Pair<Integer, Integer[]> data, long nodes) {
+        int N = data.getLeft();
+        Integer[] S = data.getRight().clone();
+        ArrayUtils.reverse(S);
+        long[][] probes = new long[Profile.values().length][];
+        for (Profile profile : Profile.values()) {
+            long start = System.currentTimeMillis();
+            Store store = new Store();
+            IntVar[][] XY = Model(store, N, S, profile);
+            Search<IntVar> searchX = new DepthFirstSearch<IntVar>();
+            Search<IntVar> searchY = new DepthFirstSearch<IntVar>();
+            SelectChoicePoint<IntVar> labelX = new SimpleSelect<>(XY[0], new SmallestMin<>(), new SmallestDomain<>(), new IndomainMin<>());
+            SelectChoicePoint<IntVar> labelY = new SimpleSelect<>(XY[1], new SmallestMin<>(), new SmallestDomain<>(), new IndomainMin<>());
+            searchY.setSelectChoicePoint(labelY);
+            searchX.addChildSearch(searchY);
+            searchX.setNodesOut(nodes);
+            searchY.setNodesOut(nodes);
+            searchX.setPrintInfo(false);
+            searchY.setPrintInfo(false);
+            boolean solved = searchX.labeling(store, labelX);
+            probes[profile.ordinal()] = new long[] { solved ? 1 : 0,
+                    searchX.getNodes() + searchY.getNodes(),
+                    searchX.getWrongDecisions() + searchY.getWrongDecisions(),
+                    System.currentTimeMillis() - start };
+        }
+        return probes;
+    }
+
+    /*
+     * The profile to use after probing: the fastest one that solved
+     * the instance within the probe, otherwise the one with the
+     * smallest share of failed nodes (the strongest pruning for the
+     * same node budget), the faster one on a tie.
+     */
+    static Profile Choose(long[][] probes) {
+        Profile best = null;
+        for (Profile profile : Profile.values()) {
+            long[] p = probes[profile.ordinal()];
+            if (best == null) {
+                best = profile;
+                continue;
+            }
+            long[] b = probes[best.ordinal()];
+            if (p[0] != b[0]) {
+                if (p[0] > b[0])
+                    best = profile;
+            } else if (p[0] == 1) {
+                if (p[3] < b[3])
+                    best = profile;
+            } else {
+                // compare p[2] / p[1] with b[2] / b[1]
+                long lhs = p[2] * Math.max(1, b[1]);
+                long rhs = b[2] * Math.max(1, p[1]);
+                if (lhs < rhs || (lhs == rhs && p[3] < b[3]))
+                    best = profile;
+            }
         }
+        return best;
+    }
+
+    /*
+     * Searches all solutions split into one sub-search per position X
+     * of the largest square. With reuse, the model is built and
+     * propagated once, and every sub-search runs on a new store level
+     * that is removed again afterwards, so the root domains are shared
+     * and restored instead of rebuilt. Without reuse, every sub-search
+     * builds its own store. The model posts the constraints of
+     * profile. Returns {solutions, nodes, failures,
+     * sub-searches, construction time, search time}, times in ms.
+     *
+     * Reuse is sequential only. The store levels are one undo stack,
+     * and a level is removed by undoing the changes above it, so two
+     * sub-searches cannot run on the same store at once. JaCoP cannot
+     * snapshot or clone a store, so parallel sub-searches need a store
+     * each, which is the rebuilding path.
+     */
+    static long[] SolveSplit(Pair<Integer, Integer[]> data, boolean reuse, Profile profile) {
+        int N = data.getLeft();
+        Integer[] S = data.getRight().clone();
+        ArrayUtils.reverse(S);
+        long[] stats = new long[6];
+
+        long start = System.currentTimeMillis();
+        Store store = new Store();
+        IntVar[][] XY = Model(store, N, S, profile);
+        store.consistency();
+        stats[4] += System.currentTimeMillis() - start;
+        int base = store.level;
+        IntVar largest = XY[0][0];
+
+        for (int v = 0; v <= N - S[0]; v++) {
+            if (!largest.domain.contains(v))
+                continue;
+            start = System.currentTimeMillis();
+            if (reuse) {
+                store.setLevel(base + 1);
+            } else {
+                store = new Store();
+                XY = Model(store, N, S, profile);
+            }
+            IntVar[] X = XY[0];
+            IntVar[] Y = XY[1];
+            X[0].domain.in(store.level, X[0], v, v);
+            boolean consistent = store.consistency();
+            stats[4] += System.currentTimeMillis() - start;
+            stats[3]++;
+
+            if (consistent) {
+                start = System.currentTimeMillis();
+                Search<IntVar> searchX = new DepthFirstSearch<IntVar>();
+                Search<IntVar> searchY = new DepthFirstSearch<IntVar>();
+                SelectChoicePoint<IntVar> labelX = new SimpleSelect<>(X, new SmallestMin<>(), new SmallestDomain<>(), new IndomainMin<>());
+                SelectChoicePoint<IntVar> labelY = new SimpleSelect<>(Y, new SmallestMin<>(), new SmallestDomain<>(), new IndomainMin<>());
+                searchY.setSelectChoicePoint(labelY);
+                searchX.addChildSearch(searchY);
+                searchX.getSolutionListener().searchAll(true);
+                searchX.getSolutionListener().recordSolutions(true);
+                searchY.getSolutionListener().recordSolutions(true);
+                searchX.setAssignSolution(false);
+                searchY.setAssignSolution(false);
+                searchX.setPrintInfo(false);
+                searchY.setPrintInfo(false);
+                searchX.labeling(store, labelX);
+                stats[5] += System.currentTimeMillis() - start;
+
+                int solutions = searchX.getSolutionListener().solutionsNo();
+                for (int sid = 1; sid <= solutions; sid++) {
+                    if (!Check(N, S, searchX.getSolution(sid), searchY.getSolution(sid)))
+                        throw new IllegalStateException("Invalid solution #" + sid + " for X0 = " + v);
+                }
+                stats[0] += solutions;
+                stats[1] += searchX.getNodes() + searchY.getNodes();
+                stats[2] += searchX.getWrongDecisions() + searchY.getWrongDecisions();
+            }
+
+            if (reuse) {
+                start = System.currentTimeMillis();
+                for (int l = store.level; l > base; l--)
+                    store.removeLevel(l);
+                store.setLevel(base);
+                stats[4] += System.currentTimeMillis() - start;
+            }
+        }
+        return stats;
     }
     
+    /*
+     * Checks a placement: every square inside the N x N master square,
+     * no two squares overlapping (O(n^2) pairs) and, given that, the
+     * areas adding up to N^2 so that the master square is covered.
+     */
+    static boolean Check(int N, Integer[] S, Domain[] X, Domain[] Y) {
+        int n = S.length;
+        int[] x = new int[n];
+        int[] y = new int[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = ((IntDomain) X[i]).value();
+            y[i] = ((IntDomain) Y[i]).value();
+        }
+        return Check(N, S, x, y);
+    }
+
+    static boolean Check(int N, Integer[] S, int[] x, int[] y) {
+        int n = S.length;
+        long area = 0;
+        for (int i = 0; i < n; i++) {
+            if (x[i] < 0 || y[i] < 0 || x[i] + S[i] > N || y[i] + S[i] > N)
+                return false;
+            area += (long) S[i] * S[i];
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (x[i] < x[j] + S[j] && x[j] < x[i] + S[i]
+                        && y[i] < y[j] + S[j] && y[j] < y[i] + S[i])
+                    return false;
+            }
+        }
+        return area == (long) N * N;
+    }
+
     @SuppressWarnings("serial")
     public class Window extends JPanel implements Runnable {
         private AffineTransform tx = new AffineTransform();
@@ -210,227 +535,333 @@ public class Solver {
         }
     }
 
-    public static void main(String[] args) {
-        @SuppressWarnings("unchecked")
-        Pair<Integer, Integer[]>[] instances = new ImmutablePair[] {
-            new ImmutablePair<>(112, new Integer[] { 2, 4, 6, 7, 8, 9, 11, 15, 16, 17, 18, 19, 24, 25, 27, 29, 33, 35, 37, 42, 50 }),
-            new ImmutablePair<>(110, new Integer[] { 2, 3, 4, 6, 7, 8, 12, 13, 14, 15, 16, 17, 18, 21, 22, 23, 24, 26, 27, 28, 50, 60 }),
-            new ImmutablePair<>(110, new Integer[] { 1, 2, 3, 4, 6, 8, 9, 12, 14, 16, 17, 18, 19, 21, 22, 23, 24, 26, 27, 28, 50, 60 }),
-            new ImmutablePair<>(139, new Integer[] { 1, 2, 3, 4, 7, 8, 10, 17, 18, 20, 21, 22, 24, 27, 28, 29, 30, 31, 32, 38, 59, 80 }),
-            new ImmutablePair<>(147, new Integer[] { 1, 3, 4, 5, 8, 9, 17, 20, 21, 23, 25, 26, 29, 31, 32, 40, 43, 44, 47, 48, 52, 55 }),
-            new ImmutablePair<>(147, new Integer[] { 2, 4, 8, 10, 11, 12, 15, 19, 21, 22, 23, 25, 26, 32, 34, 37, 41, 43, 45, 47, 55, 59 }),
-            new ImmutablePair<>(154, new Integer[] { 2, 5, 9, 11, 16, 17, 19, 21, 22, 24, 26, 30, 31, 33, 35, 36, 41, 46, 47, 50, 52, 61 }),
-            new ImmutablePair<>(172, new Integer[] { 1, 2, 3, 4, 9, 11, 13, 16, 17, 18, 19, 22, 24, 33, 36, 38, 39, 42, 44, 53, 75, 97 }),
-            new ImmutablePair<>(192, new Integer[] { 4, 8, 9, 10, 12, 14, 17, 19, 26, 28, 31, 35, 36, 37, 41, 47, 49, 57, 59, 62, 71, 86 }),
-            new ImmutablePair<>(110, new Integer[] { 1, 2, 3, 4, 5, 7, 8, 10, 12, 13, 14, 15, 16, 19, 21, 28, 29, 31, 32, 37, 38, 41, 44 }),
-            new ImmutablePair<>(139, new Integer[] { 1, 2, 7, 8, 12, 13, 14, 15, 16, 18, 19, 20, 21, 22, 24, 26, 27, 28, 32, 33, 38, 59, 80 }),
-            new ImmutablePair<>(140, new Integer[] { 1, 2, 3, 4, 5, 8, 10, 13, 16, 19, 20, 23, 27, 28, 29, 31, 33, 38, 42, 45, 48, 53, 54 }),
-            new ImmutablePair<>(140, new Integer[] { 2, 3, 4, 7, 8, 9, 12, 15, 16, 18, 22, 23, 24, 26, 28, 30, 33, 36, 43, 44, 47, 50, 60 }),
-            new ImmutablePair<>(145, new Integer[] { 1, 2, 3, 4, 6, 8, 9, 12, 15, 20, 22, 24, 25, 26, 27, 29, 30, 31, 32, 34, 36, 61, 84 }),
-            new ImmutablePair<>(180, new Integer[] { 2, 4, 8, 10, 11, 12, 15, 19, 21, 22, 23, 25, 26, 32, 33, 34, 37, 41, 43, 45, 47, 88, 92 }),
-            new ImmutablePair<>(188, new Integer[] { 2, 4, 8, 10, 11, 12, 15, 19, 21, 22, 23, 25, 26, 32, 33, 34, 37, 45, 47, 49, 51, 92, 96 }),
-            new ImmutablePair<>(208, new Integer[] { 1, 3, 4, 9, 10, 11, 12, 16, 17, 18, 22, 23, 24, 40, 41, 60, 62, 65, 67, 70, 71, 73, 75 }),
-            new ImmutablePair<>(215, new Integer[] { 1, 3, 4, 9, 10, 11, 12, 16, 17, 18, 22, 23, 24, 40, 41, 60, 66, 68, 70, 71, 74, 76, 79 }),
-            new ImmutablePair<>(228, new Integer[] { 2, 7, 9, 10, 15, 16, 17, 18, 22, 23, 25, 28, 36, 39, 42, 56, 57, 68, 69, 72, 73, 87, 99 }),
-            new ImmutablePair<>(257, new Integer[] { 2, 3, 9, 11, 14, 15, 17, 20, 22, 24, 28, 29, 32, 33, 49, 55, 57, 60, 63, 66, 79, 123, 134 }),
-            new ImmutablePair<>(332, new Integer[] { 1, 15, 17, 24, 26, 30, 31, 38, 47, 48, 49, 50, 53, 56, 58, 68, 83, 89, 91, 112, 120, 123, 129 }),
-            new ImmutablePair<>(120, new Integer[] { 3, 4, 5, 6, 8, 9, 10, 12, 13, 14, 15, 16, 17, 19, 20, 23, 25, 32, 33, 34, 40, 41, 46, 47 }),
-            new ImmutablePair<>(186, new Integer[] { 2, 3, 4, 7, 8, 9, 12, 15, 16, 18, 22, 23, 24, 26, 28, 30, 33, 36, 43, 46, 47, 60, 90, 96 }),
-            new ImmutablePair<>(194, new Integer[] { 2, 3, 7, 9, 10, 16, 17, 18, 19, 20, 23, 25, 28, 34, 36, 37, 42, 53, 54, 61, 65, 68, 69, 72 }),
-            new ImmutablePair<>(195, new Integer[] { 2, 4, 7, 10, 11, 16, 17, 18, 21, 26, 27, 30, 39, 41, 42, 45, 47, 49, 52, 53, 54, 61, 63, 80 }),
-            new ImmutablePair<>(196, new Integer[] { 1, 2, 5, 10, 11, 15, 17, 18, 20, 21, 24, 26, 29, 31, 32, 34, 36, 40, 44, 47, 48, 51, 91, 105 }),
-            new ImmutablePair<>(201, new Integer[] { 1, 3, 4, 6, 9, 10, 11, 12, 17, 18, 20, 21, 22, 23, 26, 38, 40, 46, 50, 52, 53, 58, 98, 103 }),
-            new ImmutablePair<>(201, new Integer[] { 1, 4, 5, 8, 9, 10, 11, 15, 16, 18, 19, 20, 22, 24, 26, 39, 42, 44, 49, 52, 54, 56, 93, 108 }),
-            new ImmutablePair<>(203, new Integer[] { 1, 2, 5, 10, 11, 15, 17, 18, 20, 21, 24, 26, 29, 31, 32, 34, 36, 40, 44, 48, 54, 58, 98, 105 }),
-            new ImmutablePair<>(247, new Integer[] { 3, 5, 6, 9, 12, 14, 19, 23, 24, 25, 28, 32, 34, 36, 40, 45, 46, 48, 56, 62, 63, 66, 111, 136 }),
-            new ImmutablePair<>(253, new Integer[] { 2, 4, 5, 9, 13, 18, 20, 23, 24, 27, 28, 31, 38, 40, 44, 50, 61, 70, 72, 77, 79, 86, 88, 104 }),
-            new ImmutablePair<>(255, new Integer[] { 3, 5, 10, 11, 16, 17, 20, 22, 23, 25, 26, 27, 28, 32, 41, 44, 52, 53, 59, 63, 65, 74, 118, 137 }),
-            new ImmutablePair<>(288, new Integer[] { 2, 7, 9, 10, 15, 16, 17, 18, 22, 23, 25, 28, 36, 39, 42, 56, 57, 60, 68, 72, 73, 87, 129, 159 }),
-            new ImmutablePair<>(288, new Integer[] { 1, 5, 7, 8, 9, 14, 17, 20, 21, 26, 30, 32, 34, 36, 48, 51, 54, 59, 64, 69, 72, 93, 123, 165 }),
-            new ImmutablePair<>(290, new Integer[] { 2, 3, 8, 9, 11, 12, 14, 17, 21, 30, 31, 33, 40, 42, 45, 48, 59, 61, 63, 65, 82, 84, 124, 166 }),
-            new ImmutablePair<>(292, new Integer[] { 1, 2, 3, 8, 12, 15, 16, 17, 20, 22, 24, 26, 29, 33, 44, 54, 57, 60, 63, 67, 73, 102, 117, 175 }),
-            new ImmutablePair<>(304, new Integer[] { 3, 5, 7, 11, 12, 17, 20, 22, 25, 29, 35, 47, 48, 55, 56, 57, 69, 72, 76, 92, 96, 100, 116, 132 }),
-            new ImmutablePair<>(304, new Integer[] { 3, 4, 7, 12, 16, 20, 23, 24, 27, 28, 30, 32, 33, 36, 37, 44, 53, 57, 72, 76, 85, 99, 129, 175 }),
-            new ImmutablePair<>(314, new Integer[] { 2, 4, 11, 12, 16, 17, 18, 19, 28, 29, 40, 44, 47, 59, 62, 64, 65, 78, 79, 96, 97, 105, 113, 139 }),
-            new ImmutablePair<>(316, new Integer[] { 3, 9, 10, 12, 13, 14, 15, 23, 24, 33, 36, 37, 48, 52, 54, 55, 57, 65, 66, 78, 79, 93, 144, 172 }),
-            new ImmutablePair<>(326, new Integer[] { 1, 6, 10, 11, 14, 15, 18, 24, 29, 32, 43, 44, 53, 56, 63, 65, 71, 80, 83, 101, 104, 106, 119, 142 }),
-            new ImmutablePair<>(423, new Integer[] { 2, 9, 15, 17, 27, 29, 31, 32, 33, 36, 47, 49, 50, 60, 62, 77, 105, 114, 123, 127, 128, 132, 168, 186 }),
-            new ImmutablePair<>(435, new Integer[] { 1, 2, 8, 10, 13, 19, 23, 33, 44, 45, 56, 74, 76, 78, 80, 88, 93, 100, 112, 131, 142, 143, 150, 192 }),
-            new ImmutablePair<>(435, new Integer[] { 3, 5, 9, 11, 12, 21, 24, 27, 30, 44, 45, 50, 54, 55, 63, 95, 101, 112, 117, 123, 134, 140, 178, 200 }),
-            new ImmutablePair<>(459, new Integer[] { 8, 9, 10, 11, 16, 30, 36, 38, 45, 55, 57, 65, 68, 84, 95, 98, 100, 116, 117, 126, 135, 144, 180, 198 }),
-            new ImmutablePair<>(459, new Integer[] { 4, 6, 9, 10, 17, 21, 23, 25, 31, 33, 36, 38, 45, 50, 83, 115, 117, 126, 133, 135, 144, 146, 180, 198 }),
-            new ImmutablePair<>(479, new Integer[] { 5, 6, 17, 23, 24, 26, 28, 29, 35, 43, 44, 52, 60, 68, 77, 86, 130, 140, 150, 155, 160, 164, 174, 175 }),
-            new ImmutablePair<>(147, new Integer[] { 3, 4, 5, 6, 8, 9, 10, 12, 13, 14, 15, 16, 17, 19, 20, 23, 25, 27, 32, 33, 34, 40, 41, 73, 74 }),
-            new ImmutablePair<>(208, new Integer[] { 1, 2, 3, 4, 5, 7, 8, 11, 12, 17, 18, 24, 26, 28, 29, 30, 36, 39, 44, 45, 50, 59, 60, 89, 119 }),
-            new ImmutablePair<>(213, new Integer[] { 3, 5, 6, 7, 13, 16, 17, 20, 21, 23, 24, 25, 26, 28, 31, 35, 36, 47, 49, 56, 58, 74, 76, 81, 90 }),
-            new ImmutablePair<>(215, new Integer[] { 1, 4, 6, 7, 11, 15, 24, 26, 27, 33, 37, 39, 40, 41, 42, 43, 45, 47, 51, 55, 60, 62, 63, 69, 83 }),
-            new ImmutablePair<>(216, new Integer[] { 1, 2, 3, 4, 5, 7, 8, 11, 16, 17, 18, 19, 25, 30, 32, 33, 39, 41, 45, 49, 54, 59, 64, 103, 113 }),
-            new ImmutablePair<>(236, new Integer[] { 1, 2, 4, 9, 11, 12, 13, 14, 15, 16, 19, 24, 38, 40, 44, 46, 47, 48, 59, 64, 65, 70, 81, 85, 107 }),
-            new ImmutablePair<>(242, new Integer[] { 1, 3, 6, 7, 9, 13, 14, 16, 17, 19, 23, 25, 26, 28, 30, 31, 47, 51, 54, 57, 60, 64, 67, 111, 131 }),
-            new ImmutablePair<>(244, new Integer[] { 1, 2, 4, 5, 7, 10, 15, 17, 19, 20, 21, 22, 26, 27, 30, 37, 40, 41, 45, 65, 66, 68, 70, 110, 134 }),
-            new ImmutablePair<>(252, new Integer[] { 4, 7, 10, 11, 12, 13, 23, 25, 29, 31, 32, 34, 36, 37, 38, 40, 42, 44, 62, 67, 68, 71, 77, 108, 113 }),
-            new ImmutablePair<>(253, new Integer[] { 2, 4, 5, 6, 9, 10, 12, 14, 20, 24, 27, 35, 36, 37, 38, 42, 43, 45, 50, 54, 63, 66, 70, 120, 133 }),
-            new ImmutablePair<>(260, new Integer[] { 1, 4, 6, 7, 10, 15, 24, 26, 27, 28, 29, 31, 33, 34, 37, 38, 44, 65, 70, 71, 77, 78, 83, 100, 112 }),
-            new ImmutablePair<>(264, new Integer[] { 3, 7, 8, 12, 16, 18, 19, 20, 22, 24, 26, 31, 34, 37, 38, 40, 42, 53, 54, 61, 64, 69, 70, 130, 134 }),
-            new ImmutablePair<>(264, new Integer[] { 3, 8, 12, 13, 16, 18, 20, 21, 22, 24, 26, 29, 34, 38, 40, 42, 43, 47, 54, 59, 64, 70, 71, 130, 134 }),
-            new ImmutablePair<>(264, new Integer[] { 1, 3, 4, 6, 9, 10, 11, 12, 16, 17, 18, 20, 21, 22, 39, 42, 54, 56, 61, 66, 68, 69, 73, 129, 135 }),
-            new ImmutablePair<>(265, new Integer[] { 1, 3, 4, 6, 9, 10, 11, 12, 16, 17, 18, 20, 21, 22, 39, 42, 54, 56, 62, 66, 68, 69, 74, 130, 135 }),
-            new ImmutablePair<>(273, new Integer[] { 1, 4, 8, 10, 11, 12, 17, 19, 21, 22, 27, 29, 30, 33, 37, 43, 52, 62, 65, 86, 88, 89, 91, 96, 120 }),
-            new ImmutablePair<>(273, new Integer[] { 1, 6, 9, 14, 16, 17, 18, 21, 22, 23, 25, 31, 32, 38, 44, 46, 48, 50, 54, 62, 65, 68, 78, 133, 140 }),
-            new ImmutablePair<>(275, new Integer[] { 2, 3, 7, 13, 17, 24, 25, 31, 33, 34, 35, 37, 41, 49, 51, 53, 55, 60, 68, 71, 74, 81, 94, 100, 107 }),
-            new ImmutablePair<>(276, new Integer[] { 1, 5, 8, 9, 11, 18, 19, 21, 30, 36, 41, 44, 45, 46, 47, 51, 53, 58, 63, 69, 71, 84, 87, 105, 120 }),
-            new ImmutablePair<>(280, new Integer[] { 5, 6, 11, 17, 18, 20, 21, 24, 27, 28, 32, 34, 41, 42, 50, 53, 54, 55, 68, 78, 85, 88, 95, 97, 117 }),
-            new ImmutablePair<>(280, new Integer[] { 2, 3, 7, 8, 14, 18, 30, 36, 37, 39, 44, 50, 52, 54, 56, 60, 63, 64, 65, 72, 75, 78, 79, 96, 106 }),
-            new ImmutablePair<>(284, new Integer[] { 1, 2, 11, 12, 14, 16, 18, 19, 23, 26, 29, 37, 38, 39, 40, 42, 59, 68, 69, 77, 78, 97, 106, 109, 110 }),
-            new ImmutablePair<>(286, new Integer[] { 1, 4, 5, 7, 10, 12, 15, 16, 20, 23, 28, 30, 32, 33, 35, 37, 53, 54, 64, 68, 74, 79, 80, 133, 153 }),
-            new ImmutablePair<>(289, new Integer[] { 2, 3, 5, 8, 13, 14, 17, 20, 21, 32, 36, 41, 50, 52, 60, 61, 62, 68, 74, 76, 83, 87, 100, 102, 104 }),
-            new ImmutablePair<>(289, new Integer[] { 2, 3, 4, 5, 7, 12, 16, 17, 19, 21, 23, 25, 29, 31, 32, 44, 57, 64, 65, 68, 72, 76, 84, 140, 149 }),
-            new ImmutablePair<>(290, new Integer[] { 1, 2, 10, 11, 13, 14, 15, 17, 18, 28, 29, 34, 36, 38, 50, 56, 60, 69, 77, 80, 85, 91, 94, 111, 119 }),
-            new ImmutablePair<>(293, new Integer[] { 5, 6, 11, 17, 18, 20, 21, 24, 27, 28, 32, 34, 41, 42, 50, 54, 55, 66, 68, 78, 85, 88, 95, 110, 130 }),
-            new ImmutablePair<>(297, new Integer[] { 2, 7, 8, 9, 10, 15, 16, 17, 18, 23, 25, 26, 28, 36, 38, 43, 53, 60, 61, 68, 69, 77, 99, 137, 160 }),
-            new ImmutablePair<>(308, new Integer[] { 1, 3, 4, 7, 10, 12, 13, 23, 25, 34, 37, 38, 39, 43, 44, 45, 62, 77, 79, 85, 87, 108, 113, 115, 116 }),
-            new ImmutablePair<>(308, new Integer[] { 1, 5, 6, 7, 8, 9, 13, 16, 19, 28, 33, 36, 38, 43, 45, 48, 70, 71, 73, 84, 86, 102, 104, 120, 133 }),
-            new ImmutablePair<>(309, new Integer[] { 7, 8, 14, 16, 23, 24, 25, 26, 31, 33, 34, 39, 48, 56, 59, 60, 62, 70, 76, 82, 92, 100, 101, 108, 117 }),
-            new ImmutablePair<>(311, new Integer[] { 2, 7, 8, 9, 10, 15, 16, 17, 18, 23, 25, 26, 28, 36, 38, 43, 53, 60, 61, 68, 83, 91, 99, 151, 160 }),
-            new ImmutablePair<>(314, new Integer[] { 1, 6, 7, 11, 16, 22, 26, 29, 32, 36, 38, 44, 51, 53, 64, 69, 70, 73, 74, 75, 85, 87, 101, 116, 128 }),
-            new ImmutablePair<>(316, new Integer[] { 1, 3, 9, 12, 21, 26, 30, 33, 34, 35, 38, 39, 40, 41, 53, 56, 59, 69, 79, 85, 96, 103, 111, 117, 120 }),
-            new ImmutablePair<>(317, new Integer[] { 1, 5, 6, 7, 8, 9, 16, 17, 19, 32, 37, 40, 42, 47, 49, 52, 59, 75, 81, 92, 94, 110, 112, 113, 126 }),
-            new ImmutablePair<>(320, new Integer[] { 2, 7, 8, 9, 12, 14, 15, 21, 23, 35, 38, 44, 46, 49, 53, 54, 56, 63, 96, 101, 103, 105, 108, 112, 116 }),
-            new ImmutablePair<>(320, new Integer[] { 3, 8, 9, 11, 17, 18, 22, 25, 26, 27, 29, 30, 31, 33, 35, 49, 51, 67, 72, 73, 80, 85, 95, 152, 168 }),
-            new ImmutablePair<>(320, new Integer[] { 1, 4, 6, 7, 8, 13, 14, 16, 24, 28, 30, 33, 34, 38, 41, 42, 57, 60, 69, 78, 81, 90, 92, 150, 170 }),
-            new ImmutablePair<>(320, new Integer[] { 3, 4, 6, 8, 9, 14, 15, 16, 24, 28, 30, 31, 34, 38, 39, 42, 59, 60, 71, 78, 79, 90, 92, 150, 170 }),
-            new ImmutablePair<>(322, new Integer[] { 3, 4, 8, 9, 10, 16, 18, 20, 22, 23, 24, 28, 31, 38, 44, 47, 64, 65, 68, 76, 80, 81, 97, 144, 178 }),
-            new ImmutablePair<>(322, new Integer[] { 3, 4, 8, 10, 15, 16, 18, 19, 20, 22, 24, 28, 35, 38, 44, 53, 59, 64, 68, 76, 80, 85, 93, 144, 178 }),
-            new ImmutablePair<>(323, new Integer[] { 2, 3, 4, 7, 10, 13, 15, 18, 23, 32, 34, 35, 36, 42, 46, 50, 57, 60, 66, 72, 78, 87, 98, 159, 164 }),
-            new ImmutablePair<>(323, new Integer[] { 3, 8, 9, 11, 17, 18, 22, 25, 26, 27, 29, 30, 31, 33, 35, 49, 51, 67, 72, 73, 83, 88, 95, 155, 168 }),
-            new ImmutablePair<>(323, new Integer[] { 2, 6, 9, 11, 13, 14, 18, 19, 20, 23, 27, 28, 29, 42, 46, 48, 60, 64, 72, 74, 79, 82, 98, 146, 177 }),
-            new ImmutablePair<>(325, new Integer[] { 3, 5, 6, 11, 12, 13, 18, 23, 25, 28, 32, 37, 40, 43, 45, 46, 51, 79, 92, 99, 103, 108, 112, 114, 134 }),
-            new ImmutablePair<>(326, new Integer[] { 1, 4, 8, 10, 12, 16, 21, 22, 24, 27, 28, 35, 36, 37, 38, 46, 49, 68, 70, 75, 88, 90, 93, 158, 168 }),
-            new ImmutablePair<>(327, new Integer[] { 2, 9, 10, 12, 13, 16, 19, 21, 23, 26, 36, 44, 46, 52, 55, 61, 62, 74, 84, 87, 100, 103, 104, 120, 140 }),
-            new ImmutablePair<>(328, new Integer[] { 2, 3, 4, 7, 8, 10, 14, 17, 26, 27, 28, 36, 38, 40, 42, 45, 53, 58, 73, 74, 79, 94, 102, 152, 176 }),
-            new ImmutablePair<>(334, new Integer[] { 1, 4, 8, 10, 12, 16, 21, 22, 24, 27, 28, 35, 36, 37, 38, 46, 49, 68, 75, 78, 88, 93, 98, 166, 168 }),
-            new ImmutablePair<>(336, new Integer[] { 2, 3, 4, 7, 8, 10, 14, 17, 26, 27, 28, 36, 38, 40, 45, 50, 53, 58, 73, 74, 79, 94, 110, 152, 184 }),
-            new ImmutablePair<>(338, new Integer[] { 1, 4, 8, 10, 12, 16, 19, 22, 24, 25, 28, 36, 37, 38, 39, 46, 53, 68, 70, 73, 94, 96, 101, 164, 174 }),
-            new ImmutablePair<>(338, new Integer[] { 4, 5, 8, 10, 12, 15, 16, 21, 22, 24, 28, 33, 36, 38, 43, 46, 57, 68, 70, 77, 94, 96, 97, 164, 174 }),
-            new ImmutablePair<>(340, new Integer[] { 1, 4, 5, 6, 11, 13, 16, 17, 22, 24, 44, 46, 50, 51, 52, 53, 61, 64, 66, 79, 84, 85, 92, 169, 171 }),
-            new ImmutablePair<>(344, new Integer[] { 2, 3, 8, 11, 14, 17, 19, 21, 23, 25, 27, 36, 39, 44, 48, 53, 56, 71, 77, 83, 86, 89, 98, 169, 175 }),
-            new ImmutablePair<>(359, new Integer[] { 7, 8, 9, 10, 14, 17, 18, 23, 25, 27, 29, 31, 40, 41, 43, 46, 69, 74, 82, 85, 90, 98, 102, 172, 187 }),
-            new ImmutablePair<>(361, new Integer[] { 2, 6, 7, 8, 9, 14, 20, 22, 26, 27, 32, 34, 36, 47, 49, 56, 66, 67, 74, 82, 89, 98, 107, 156, 205 }),
-            new ImmutablePair<>(363, new Integer[] { 1, 4, 6, 12, 13, 20, 21, 25, 26, 27, 28, 32, 37, 41, 45, 53, 58, 64, 69, 91, 97, 102, 106, 155, 208 }),
-            new ImmutablePair<>(364, new Integer[] { 2, 3, 4, 6, 8, 9, 13, 14, 16, 19, 23, 24, 28, 29, 52, 57, 64, 75, 82, 91, 98, 100, 109, 173, 191 }),
-            new ImmutablePair<>(367, new Integer[] { 1, 4, 6, 12, 13, 20, 21, 25, 26, 27, 28, 32, 37, 41, 49, 53, 58, 64, 69, 91, 97, 102, 110, 155, 212 }),
-            new ImmutablePair<>(368, new Integer[] { 1, 6, 15, 16, 17, 18, 22, 25, 31, 33, 39, 42, 45, 46, 47, 48, 51, 69, 72, 88, 91, 96, 112, 160, 208 }),
-            new ImmutablePair<>(371, new Integer[] { 1, 2, 7, 8, 20, 21, 22, 24, 26, 28, 30, 38, 43, 46, 50, 51, 64, 65, 70, 90, 95, 102, 109, 160, 211 }),
-            new ImmutablePair<>(373, new Integer[] { 3, 6, 7, 8, 15, 17, 22, 23, 31, 32, 35, 41, 43, 60, 62, 68, 79, 87, 104, 105, 114, 120, 121, 138, 148 }),
-            new ImmutablePair<>(378, new Integer[] { 2, 3, 10, 17, 18, 20, 21, 22, 24, 27, 31, 38, 41, 48, 51, 56, 68, 78, 80, 85, 87, 96, 117, 165, 213 }),
-            new ImmutablePair<>(378, new Integer[] { 1, 2, 7, 13, 15, 17, 18, 25, 27, 29, 30, 31, 42, 43, 46, 56, 61, 68, 73, 93, 100, 105, 112, 161, 217 }),
-            new ImmutablePair<>(380, new Integer[] { 4, 7, 17, 18, 19, 20, 21, 26, 31, 33, 35, 40, 45, 48, 49, 60, 67, 73, 79, 81, 87, 107, 113, 186, 194 }),
-            new ImmutablePair<>(380, new Integer[] { 4, 5, 6, 9, 13, 15, 16, 17, 22, 24, 33, 38, 44, 49, 50, 56, 60, 67, 82, 84, 95, 108, 121, 177, 203 }),
-            new ImmutablePair<>(381, new Integer[] { 12, 13, 21, 23, 25, 27, 35, 36, 42, 45, 54, 57, 59, 60, 79, 82, 84, 85, 92, 95, 96, 100, 110, 111, 186 }),
-            new ImmutablePair<>(384, new Integer[] { 1, 4, 8, 9, 11, 12, 19, 21, 27, 32, 35, 44, 45, 46, 47, 51, 60, 67, 84, 89, 96, 108, 120, 180, 204 }),
-            new ImmutablePair<>(384, new Integer[] { 1, 4, 8, 9, 11, 12, 15, 17, 19, 25, 26, 31, 32, 37, 44, 57, 60, 81, 84, 96, 99, 108, 120, 180, 204 }),
-            new ImmutablePair<>(384, new Integer[] { 3, 5, 7, 11, 12, 17, 20, 22, 25, 29, 35, 47, 48, 55, 56, 57, 69, 72, 76, 80, 96, 100, 116, 172, 212 }),
-            new ImmutablePair<>(385, new Integer[] { 1, 2, 7, 13, 15, 17, 18, 25, 27, 29, 30, 31, 43, 46, 49, 56, 61, 68, 73, 93, 100, 105, 119, 161, 224 }),
-            new ImmutablePair<>(392, new Integer[] { 4, 7, 8, 15, 23, 26, 29, 30, 31, 32, 34, 43, 48, 55, 56, 68, 77, 88, 98, 106, 116, 135, 141, 151, 153 }),
-            new ImmutablePair<>(392, new Integer[] { 10, 12, 14, 16, 19, 21, 25, 27, 31, 35, 39, 41, 51, 52, 54, 55, 73, 92, 98, 115, 121, 123, 129, 148, 171 }),
-            new ImmutablePair<>(392, new Integer[] { 1, 4, 5, 8, 11, 14, 16, 21, 22, 24, 27, 28, 30, 31, 52, 64, 81, 83, 96, 97, 98, 99, 114, 195, 197 }),
-            new ImmutablePair<>(393, new Integer[] { 4, 8, 16, 20, 23, 24, 25, 27, 29, 37, 44, 45, 50, 53, 64, 66, 68, 69, 73, 85, 91, 101, 116, 186, 207 }),
-            new ImmutablePair<>(396, new Integer[] { 1, 4, 5, 14, 16, 32, 35, 36, 46, 47, 48, 49, 68, 69, 73, 93, 94, 97, 99, 104, 110, 111, 125, 126, 160 }),
-            new ImmutablePair<>(396, new Integer[] { 1, 4, 5, 8, 11, 14, 16, 21, 22, 24, 27, 28, 30, 31, 52, 64, 81, 83, 98, 99, 100, 101, 114, 197, 199 }),
-            new ImmutablePair<>(396, new Integer[] { 3, 8, 9, 11, 14, 16, 17, 18, 31, 32, 41, 45, 48, 56, 60, 66, 73, 75, 81, 82, 98, 99, 117, 180, 216 }),
-            new ImmutablePair<>(398, new Integer[] { 2, 6, 7, 11, 15, 17, 23, 28, 29, 39, 44, 46, 53, 56, 58, 65, 68, 99, 100, 119, 120, 134, 144, 145, 154 }),
-            new ImmutablePair<>(400, new Integer[] { 3, 6, 21, 23, 24, 26, 29, 35, 37, 40, 41, 47, 53, 55, 64, 76, 79, 81, 99, 100, 121, 122, 137, 142, 179 }),
-            new ImmutablePair<>(404, new Integer[] { 3, 6, 7, 14, 17, 20, 21, 26, 28, 31, 32, 39, 46, 53, 54, 68, 71, 80, 88, 92, 100, 111, 113, 199, 205 }),
-            new ImmutablePair<>(404, new Integer[] { 4, 7, 10, 11, 12, 13, 16, 18, 20, 23, 25, 28, 29, 32, 47, 62, 70, 88, 93, 96, 101, 114, 127, 189, 215 }),
-            new ImmutablePair<>(408, new Integer[] { 2, 3, 7, 13, 16, 18, 20, 27, 30, 33, 41, 43, 46, 52, 54, 57, 72, 79, 84, 100, 105, 108, 116, 195, 213 }),
-            new ImmutablePair<>(412, new Integer[] { 3, 11, 12, 15, 21, 26, 32, 39, 43, 47, 54, 60, 68, 73, 83, 85, 86, 87, 89, 99, 114, 129, 139, 144, 169 }),
-            new ImmutablePair<>(413, new Integer[] { 5, 7, 17, 20, 34, 38, 39, 48, 56, 57, 59, 60, 64, 65, 70, 72, 75, 81, 105, 106, 110, 125, 148, 153, 155 }),
-            new ImmutablePair<>(416, new Integer[] { 2, 4, 7, 11, 13, 24, 25, 30, 35, 37, 39, 40, 44, 58, 62, 65, 82, 104, 112, 120, 128, 135, 143, 153, 169 }),
-            new ImmutablePair<>(416, new Integer[] { 1, 2, 3, 8, 12, 15, 16, 17, 20, 22, 24, 26, 29, 31, 64, 75, 85, 88, 91, 94, 98, 104, 133, 179, 237 }),
-            new ImmutablePair<>(421, new Integer[] { 1, 2, 4, 5, 7, 9, 12, 16, 20, 22, 23, 35, 38, 48, 56, 83, 94, 104, 116, 118, 128, 140, 150, 153, 177 }),
-            new ImmutablePair<>(421, new Integer[] { 5, 11, 12, 17, 18, 20, 23, 26, 29, 36, 38, 40, 44, 51, 55, 59, 72, 92, 97, 102, 105, 107, 117, 199, 222 }),
-            new ImmutablePair<>(422, new Integer[] { 2, 4, 7, 13, 16, 18, 20, 23, 28, 29, 38, 43, 46, 51, 59, 68, 74, 79, 86, 93, 100, 111, 132, 179, 243 }),
-            new ImmutablePair<>(425, new Integer[] { 3, 4, 5, 9, 10, 12, 13, 14, 16, 19, 20, 31, 46, 48, 56, 79, 102, 104, 116, 126, 128, 140, 142, 157, 181 }),
-            new ImmutablePair<>(441, new Integer[] { 5, 6, 7, 16, 18, 23, 24, 27, 38, 39, 47, 51, 52, 62, 66, 72, 80, 84, 92, 101, 102, 118, 120, 219, 222 }),
-            new ImmutablePair<>(454, new Integer[] { 1, 2, 11, 17, 29, 34, 35, 46, 48, 51, 53, 55, 63, 69, 79, 87, 88, 91, 109, 134, 136, 143, 150, 161, 184 }),
-            new ImmutablePair<>(456, new Integer[] { 5, 7, 10, 11, 13, 15, 18, 19, 31, 49, 50, 52, 59, 60, 63, 72, 77, 115, 128, 129, 135, 142, 148, 179, 193 }),
-            new ImmutablePair<>(465, new Integer[] { 6, 9, 13, 14, 19, 21, 24, 25, 31, 32, 53, 56, 64, 73, 74, 82, 91, 111, 125, 127, 137, 139, 153, 173, 201 }),
-            new ImmutablePair<>(472, new Integer[] { 7, 9, 13, 15, 26, 34, 35, 44, 47, 51, 58, 61, 65, 81, 87, 103, 104, 115, 118, 123, 128, 133, 136, 148, 221 }),
-            new ImmutablePair<>(477, new Integer[] { 3, 5, 12, 16, 19, 22, 25, 26, 37, 41, 49, 72, 76, 77, 82, 86, 87, 115, 117, 135, 141, 149, 167, 169, 193 }),
-            new ImmutablePair<>(492, new Integer[] { 2, 9, 15, 17, 27, 29, 31, 32, 33, 36, 47, 49, 50, 60, 62, 69, 77, 105, 114, 123, 127, 128, 132, 237, 255 }),
-            new ImmutablePair<>(492, new Integer[] { 3, 5, 9, 11, 12, 21, 24, 27, 30, 44, 45, 50, 54, 55, 57, 63, 95, 101, 112, 117, 123, 134, 140, 235, 257 }),
-            new ImmutablePair<>(503, new Integer[] { 4, 15, 16, 19, 22, 23, 25, 27, 33, 34, 50, 62, 67, 87, 88, 93, 100, 113, 135, 143, 149, 157, 167, 179, 211 }),
-            new ImmutablePair<>(506, new Integer[] { 1, 7, 24, 26, 33, 35, 40, 45, 47, 51, 55, 69, 87, 90, 93, 96, 117, 125, 134, 145, 146, 147, 160, 162, 199 }),
-            new ImmutablePair<>(507, new Integer[] { 2, 3, 7, 11, 13, 15, 28, 34, 43, 50, 57, 64, 80, 83, 86, 89, 107, 115, 116, 127, 149, 163, 175, 183, 217 }),
-            new ImmutablePair<>(512, new Integer[] { 1, 7, 8, 9, 10, 15, 22, 32, 34, 46, 51, 65, 69, 71, 91, 105, 109, 111, 136, 139, 152, 157, 173, 200, 203 }),
-            new ImmutablePair<>(512, new Integer[] { 1, 6, 7, 8, 9, 13, 17, 19, 35, 45, 47, 57, 62, 73, 88, 93, 104, 107, 128, 130, 151, 163, 184, 198, 221 }),
-            new ImmutablePair<>(513, new Integer[] { 6, 9, 10, 17, 19, 24, 28, 29, 37, 39, 64, 65, 68, 81, 98, 99, 102, 115, 145, 147, 153, 159, 165, 189, 201 }),
-            new ImmutablePair<>(517, new Integer[] { 5, 6, 7, 16, 20, 24, 28, 33, 38, 43, 63, 71, 80, 83, 86, 92, 98, 122, 132, 148, 164, 166, 173, 180, 205 }),
-            new ImmutablePair<>(524, new Integer[] { 9, 12, 20, 21, 33, 35, 37, 39, 54, 55, 61, 62, 87, 90, 98, 101, 125, 132, 135, 141, 145, 159, 163, 164, 220 }),
-            new ImmutablePair<>(527, new Integer[] { 11, 12, 13, 14, 19, 30, 41, 47, 50, 52, 59, 68, 71, 81, 94, 97, 107, 132, 147, 151, 155, 169, 175, 183, 197 }),
-            new ImmutablePair<>(528, new Integer[] { 2, 9, 15, 17, 27, 29, 31, 32, 33, 36, 47, 49, 50, 60, 62, 69, 77, 123, 127, 128, 132, 141, 150, 255, 273 }),
-            new ImmutablePair<>(529, new Integer[] { 9, 12, 20, 21, 33, 35, 37, 39, 54, 55, 61, 62, 87, 90, 98, 101, 125, 132, 140, 141, 145, 159, 163, 169, 225 }),
-            new ImmutablePair<>(531, new Integer[] { 6, 9, 10, 17, 19, 24, 29, 31, 39, 40, 67, 68, 71, 84, 101, 102, 105, 118, 151, 153, 159, 165, 171, 195, 207 }),
-            new ImmutablePair<>(532, new Integer[] { 16, 18, 26, 27, 33, 39, 41, 50, 51, 55, 69, 71, 84, 87, 91, 94, 132, 133, 141, 143, 164, 168, 169, 173, 195 }),
-            new ImmutablePair<>(534, new Integer[] { 11, 13, 15, 17, 18, 27, 38, 44, 49, 52, 60, 61, 68, 81, 87, 94, 107, 135, 149, 153, 159, 171, 174, 189, 210 }),
-            new ImmutablePair<>(535, new Integer[] { 2, 8, 26, 27, 36, 41, 45, 57, 62, 77, 88, 95, 97, 99, 101, 102, 109, 114, 117, 118, 141, 147, 168, 192, 226 }),
-            new ImmutablePair<>(536, new Integer[] { 1, 8, 21, 30, 31, 32, 33, 41, 44, 46, 49, 55, 57, 61, 84, 91, 113, 134, 137, 139, 150, 155, 176, 205, 247 }),
-            new ImmutablePair<>(536, new Integer[] { 3, 5, 9, 11, 12, 21, 24, 27, 30, 44, 45, 50, 54, 55, 57, 63, 95, 117, 123, 134, 140, 145, 156, 257, 279 }),
-            new ImmutablePair<>(540, new Integer[] { 1, 7, 8, 9, 10, 14, 19, 34, 36, 51, 58, 69, 81, 83, 97, 109, 111, 115, 136, 149, 152, 167, 183, 208, 221 }),
-            new ImmutablePair<>(540, new Integer[] { 6, 13, 15, 25, 28, 36, 43, 47, 55, 57, 58, 59, 60, 65, 82, 89, 91, 107, 124, 127, 144, 163, 183, 233, 250 }),
-            new ImmutablePair<>(540, new Integer[] { 8, 9, 10, 11, 16, 30, 36, 38, 45, 55, 57, 65, 68, 81, 84, 95, 98, 100, 116, 117, 126, 135, 144, 261, 279 }),
-            new ImmutablePair<>(540, new Integer[] { 4, 6, 9, 10, 17, 21, 23, 25, 31, 33, 36, 38, 45, 50, 81, 83, 115, 117, 126, 133, 135, 144, 146, 261, 279 }),
-            new ImmutablePair<>(541, new Integer[] { 3, 4, 11, 13, 16, 17, 21, 25, 26, 44, 46, 64, 75, 86, 87, 97, 106, 109, 133, 141, 165, 185, 191, 215, 217 }),
-            new ImmutablePair<>(541, new Integer[] { 3, 5, 27, 32, 33, 37, 47, 50, 53, 56, 57, 69, 71, 78, 97, 98, 109, 111, 126, 144, 165, 169, 183, 189, 232 }),
-            new ImmutablePair<>(544, new Integer[] { 1, 7, 24, 26, 33, 35, 40, 45, 47, 51, 55, 69, 87, 90, 93, 96, 117, 125, 134, 145, 147, 184, 198, 199, 200 }),
-            new ImmutablePair<>(544, new Integer[] { 6, 8, 20, 21, 23, 41, 42, 48, 59, 61, 77, 80, 81, 85, 90, 92, 93, 102, 115, 132, 139, 168, 198, 207, 244 }),
-            new ImmutablePair<>(547, new Integer[] { 3, 5, 16, 22, 26, 27, 35, 47, 49, 59, 67, 71, 72, 85, 87, 102, 103, 111, 137, 144, 150, 197, 200, 203, 207 }),
-            new ImmutablePair<>(549, new Integer[] { 4, 10, 14, 24, 26, 31, 34, 36, 38, 40, 43, 48, 59, 63, 74, 89, 97, 105, 117, 124, 136, 152, 156, 241, 308 }),
-            new ImmutablePair<>(550, new Integer[] { 1, 2, 5, 13, 19, 20, 25, 30, 39, 43, 58, 59, 73, 75, 76, 90, 95, 103, 116, 128, 130, 132, 172, 262, 288 }),
-            new ImmutablePair<>(550, new Integer[] { 1, 11, 16, 23, 24, 27, 29, 36, 41, 43, 44, 47, 59, 70, 71, 80, 99, 103, 111, 116, 128, 156, 167, 227, 323 }),
-            new ImmutablePair<>(551, new Integer[] { 3, 5, 24, 25, 26, 30, 35, 36, 39, 40, 42, 57, 68, 76, 94, 109, 120, 128, 152, 162, 166, 175, 176, 200, 223 }),
-            new ImmutablePair<>(552, new Integer[] { 5, 17, 18, 22, 25, 27, 32, 33, 39, 59, 62, 87, 91, 100, 102, 111, 112, 135, 137, 149, 165, 168, 183, 201, 204 }),
-            new ImmutablePair<>(552, new Integer[] { 1, 3, 4, 7, 8, 9, 10, 15, 18, 19, 21, 41, 52, 54, 73, 93, 95, 123, 125, 136, 138, 153, 168, 261, 291 }),
-            new ImmutablePair<>(556, new Integer[] { 6, 8, 10, 13, 19, 25, 32, 37, 49, 54, 58, 76, 84, 91, 92, 100, 107, 128, 145, 156, 165, 185, 195, 205, 206 }),
-            new ImmutablePair<>(556, new Integer[] { 3, 12, 13, 15, 19, 23, 27, 34, 35, 39, 42, 45, 48, 52, 53, 87, 140, 145, 158, 166, 171, 184, 189, 201, 227 }),
-            new ImmutablePair<>(556, new Integer[] { 1, 5, 7, 8, 9, 10, 12, 14, 20, 27, 31, 43, 47, 50, 74, 93, 97, 121, 125, 139, 143, 153, 167, 264, 292 }),
-            new ImmutablePair<>(562, new Integer[] { 2, 3, 5, 8, 13, 19, 20, 29, 33, 47, 53, 54, 64, 65, 76, 93, 119, 123, 142, 157, 161, 180, 184, 221, 259 }),
-            new ImmutablePair<>(570, new Integer[] { 3, 9, 10, 33, 36, 38, 40, 42, 50, 51, 60, 69, 72, 75, 77, 90, 113, 140, 141, 151, 152, 189, 200, 229, 230 }),
-            new ImmutablePair<>(575, new Integer[] { 4, 6, 14, 16, 31, 39, 63, 69, 74, 81, 88, 103, 107, 111, 115, 120, 131, 132, 133, 147, 156, 159, 164, 198, 218 }),
-            new ImmutablePair<>(576, new Integer[] { 1, 4, 9, 11, 15, 19, 22, 34, 36, 53, 60, 76, 82, 84, 104, 126, 127, 128, 153, 156, 165, 174, 183, 219, 237 }),
-            new ImmutablePair<>(576, new Integer[] { 8, 9, 10, 11, 16, 30, 36, 38, 45, 55, 57, 65, 68, 81, 84, 95, 98, 100, 116, 135, 144, 153, 162, 279, 297 }),
-            new ImmutablePair<>(576, new Integer[] { 4, 6, 9, 10, 17, 21, 23, 25, 31, 33, 36, 38, 45, 50, 81, 83, 115, 133, 135, 144, 146, 153, 162, 279, 297 }),
-            new ImmutablePair<>(580, new Integer[] { 2, 5, 7, 10, 12, 13, 19, 21, 22, 29, 36, 40, 61, 65, 74, 101, 135, 139, 161, 179, 183, 192, 205, 209, 236 }),
-            new ImmutablePair<>(580, new Integer[] { 5, 6, 11, 13, 16, 17, 21, 25, 34, 44, 54, 68, 80, 88, 100, 112, 120, 135, 142, 145, 170, 173, 195, 215, 265 }),
-            new ImmutablePair<>(580, new Integer[] { 11, 12, 16, 17, 29, 32, 39, 41, 53, 55, 59, 60, 68, 70, 81, 84, 92, 124, 125, 128, 129, 156, 171, 280, 300 }),
-            new ImmutablePair<>(593, new Integer[] { 13, 14, 15, 35, 48, 51, 55, 67, 73, 79, 83, 91, 94, 105, 109, 116, 119, 124, 133, 150, 171, 173, 196, 217, 226 }),
-            new ImmutablePair<>(595, new Integer[] { 4, 13, 18, 19, 22, 35, 40, 48, 58, 61, 62, 77, 78, 82, 83, 86, 118, 149, 163, 168, 187, 192, 202, 206, 240 }),
-            new ImmutablePair<>(601, new Integer[] { 7, 8, 25, 34, 41, 42, 46, 48, 54, 55, 62, 70, 71, 74, 98, 103, 116, 143, 168, 169, 190, 192, 193, 218, 240 }),
-            new ImmutablePair<>(603, new Integer[] { 7, 11, 12, 14, 21, 25, 32, 40, 52, 56, 60, 67, 68, 81, 91, 92, 132, 144, 149, 163, 177, 191, 196, 235, 263 }),
-            new ImmutablePair<>(603, new Integer[] { 13, 23, 26, 27, 35, 44, 45, 49, 53, 54, 57, 66, 75, 99, 101, 110, 122, 126, 144, 158, 175, 180, 189, 234, 270 }),
-            new ImmutablePair<>(607, new Integer[] { 6, 8, 10, 13, 19, 25, 32, 37, 49, 54, 58, 76, 84, 91, 92, 100, 107, 128, 156, 185, 196, 205, 206, 216, 246 }),
-            new ImmutablePair<>(609, new Integer[] { 9, 14, 15, 17, 32, 45, 47, 58, 67, 74, 76, 79, 80, 83, 97, 111, 125, 126, 150, 170, 186, 188, 215, 224, 235 }),
-            new ImmutablePair<>(611, new Integer[] { 1, 10, 22, 26, 32, 41, 45, 54, 57, 61, 62, 66, 85, 86, 87, 95, 97, 101, 119, 132, 136, 167, 176, 268, 343 }),
-            new ImmutablePair<>(614, new Integer[] { 15, 22, 24, 31, 33, 49, 53, 54, 57, 60, 63, 68, 74, 81, 83, 104, 109, 151, 155, 163, 167, 217, 229, 230, 234 }),
-            new ImmutablePair<>(634, new Integer[] { 15, 17, 24, 26, 33, 43, 44, 54, 57, 60, 63, 73, 79, 81, 88, 109, 119, 160, 161, 172, 173, 227, 234, 235, 239 }),
-            new ImmutablePair<>(643, new Integer[] { 2, 9, 21, 29, 38, 40, 41, 42, 58, 62, 67, 76, 82, 83, 85, 96, 104, 166, 172, 186, 192, 201, 207, 250, 270 }),
-            new ImmutablePair<>(644, new Integer[] { 7, 9, 13, 18, 19, 22, 31, 49, 53, 61, 66, 68, 71, 87, 93, 94, 119, 164, 178, 192, 199, 206, 227, 239, 253 }),
-            new ImmutablePair<>(655, new Integer[] { 10, 14, 15, 21, 25, 26, 31, 40, 51, 53, 54, 57, 65, 83, 84, 86, 151, 152, 173, 193, 194, 215, 216, 246, 288 }),
-            new ImmutablePair<>(661, new Integer[] { 5, 7, 17, 18, 23, 31, 36, 38, 41, 64, 73, 77, 83, 84, 102, 106, 111, 161, 175, 196, 203, 210, 238, 248, 262 })
-        };
+    @SuppressWarnings("unchecked")
+    static final Pair<Integer, Integer[]>[] instances = new ImmutablePair[] {
+        new ImmutablePair<>(112, new Integer[] { 2, 4, 6, 7, 8, 9, 11, 15, 16, 17, 18, 19, 24, 25, 27, 29, 33, 35, 37, 42, 50 }),
+        new ImmutablePair<>(110, new Integer[] { 2, 3, 4, 6, 7, 8, 12, 13, 14, 15, 16, 17, 18, 21, 22, 23, 24, 26, 27, 28, 50, 60 }),
+        new ImmutablePair<>(110, new Integer[] { 1, 2, 3, 4, 6, 8, 9, 12, 14, 16, 17, 18, 19, 21, 22, 23, 24, 26, 27, 28, 50, 60 }),
+        new ImmutablePair<>(139, new Integer[] { 1, 2, 3, 4, 7, 8, 10, 17, 18, 20, 21, 22, 24, 27, 28, 29, 30, 31, 32, 38, 59, 80 }),
+        new ImmutablePair<>(147, new Integer[] { 1, 3, 4, 5, 8, 9, 17, 20, 21, 23, 25, 26, 29, 31, 32, 40, 43, 44, 47, 48, 52, 55 }),
+        new ImmutablePair<>(147, new Integer[] { 2, 4, 8, 10, 11, 12, 15, 19, 21, 22, 23, 25, 26, 32, 34, 37, 41, 43, 45, 47, 55, 59 }),
+        new ImmutablePair<>(154, new Integer[] { 2, 5, 9, 11, 16, 17, 19, 21, 22, 24, 26, 30, 31, 33, 35, 36, 41, 46, 47, 50, 52, 61 }),
+        new ImmutablePair<>(172, new Integer[] { 1, 2, 3, 4, 9, 11, 13, 16, 17, 18, 19, 22, 24, 33, 36, 38, 39, 42, 44, 53, 75, 97 }),
+        new ImmutablePair<>(192, new Integer[] { 4, 8, 9, 10, 12, 14, 17, 19, 26, 28, 31, 35, 36, 37, 41, 47, 49, 57, 59, 62, 71, 86 }),
+        new ImmutablePair<>(110, new Integer[] { 1, 2, 3, 4, 5, 7, 8, 10, 12, 13, 14, 15, 16, 19, 21, 28, 29, 31, 32, 37, 38, 41, 44 }),
+        new ImmutablePair<>(139, new Integer[] { 1, 2, 7, 8, 12, 13, 14, 15, 16, 18, 19, 20, 21, 22, 24, 26, 27, 28, 32, 33, 38, 59, 80 }),
+        new ImmutablePair<>(140, new Integer[] { 1, 2, 3, 4, 5, 8, 10, 13, 16, 19, 20, 23, 27, 28, 29, 31, 33, 38, 42, 45, 48, 53, 54 }),
+        new ImmutablePair<>(140, new Integer[] { 2, 3, 4, 7, 8, 9, 12, 15, 16, 18, 22, 23, 24, 26, 28, 30, 33, 36, 43, 44, 47, 50, 60 }),
+        new ImmutablePair<>(145, new Integer[] { 1, 2, 3, 4, 6, 8, 9, 12, 15, 20, 22, 24, 25, 26, 27, 29, 30, 31, 32, 34, 36, 61, 84 }),
+        new ImmutablePair<>(180, new Integer[] { 2, 4, 8, 10, 11, 12, 15, 19, 21, 22, 23, 25, 26, 32, 33, 34, 37, 41, 43, 45, 47, 88, 92 }),
+        new ImmutablePair<>(188, new Integer[] { 2, 4, 8, 10, 11, 12, 15, 19, 21, 22, 23, 25, 26, 32, 33, 34, 37, 45, 47, 49, 51, 92, 96 }),
+        new ImmutablePair<>(208, new Integer[] { 1, 3, 4, 9, 10, 11, 12, 16, 17, 18, 22, 23, 24, 40, 41, 60, 62, 65, 67, 70, 71, 73, 75 }),
+        new ImmutablePair<>(215, new Integer[] { 1, 3, 4, 9, 10, 11, 12, 16, 17, 18, 22, 23, 24, 40, 41, 60, 66, 68, 70, 71, 74, 76, 79 }),
+        new ImmutablePair<>(228, new Integer[] { 2, 7, 9, 10, 15, 16, 17, 18, 22, 23, 25, 28, 36, 39, 42, 56, 57, 68, 69, 72, 73, 87, 99 }),
+        new ImmutablePair<>(257, new Integer[] { 2, 3, 9, 11, 14, 15, 17, 20, 22, 24, 28, 29, 32, 33, 49, 55, 57, 60, 63, 66, 79, 123, 134 }),
+        new ImmutablePair<>(332, new Integer[] { 1, 15, 17, 24, 26, 30, 31, 38, 47, 48, 49, 50, 53, 56, 58, 68, 83, 89, 91, 112, 120, 123, 129 }),
+        new ImmutablePair<>(120, new Integer[] { 3, 4, 5, 6, 8, 9, 10, 12, 13, 14, 15, 16, 17, 19, 20, 23, 25, 32, 33, 34, 40, 41, 46, 47 }),
+        new ImmutablePair<>(186, new Integer[] { 2, 3, 4, 7, 8, 9, 12, 15, 16, 18, 22, 23, 24, 26, 28, 30, 33, 36, 43, 46, 47, 60, 90, 96 }),
+        new ImmutablePair<>(194, new Integer[] { 2, 3, 7, 9, 10, 16, 17, 18, 19, 20, 23, 25, 28, 34, 36, 37, 42, 53, 54, 61, 65, 68, 69, 72 }),
+        new ImmutablePair<>(195, new Integer[] { 2, 4, 7, 10, 11, 16, 17, 18, 21, 26, 27, 30, 39, 41, 42, 45, 47, 49, 52, 53, 54, 61, 63, 80 }),
+        new ImmutablePair<>(196, new Integer[] { 1, 2, 5, 10, 11, 15, 17, 18, 20, 21, 24, 26, 29, 31, 32, 34, 36, 40, 44, 47, 48, 51, 91, 105 }),
+        new ImmutablePair<>(201, new Integer[] { 1, 3, 4, 6, 9, 10, 11, 12, 17, 18, 20, 21, 22, 23, 26, 38, 40, 46, 50, 52, 53, 58, 98, 103 }),
+        new ImmutablePair<>(201, new Integer[] { 1, 4, 5, 8, 9, 10, 11, 15, 16, 18, 19, 20, 22, 24, 26, 39, 42, 44, 49, 52, 54, 56, 93, 108 }),
+        new ImmutablePair<>(203, new Integer[] { 1, 2, 5, 10, 11, 15, 17, 18, 20, 21, 24, 26, 29, 31, 32, 34, 36, 40, 44, 48, 54, 58, 98, 105 }),
+        new ImmutablePair<>(247, new Integer[] { 3, 5, 6, 9, 12, 14, 19, 23, 24, 25, 28, 32, 34, 36, 40, 45, 46, 48, 56, 62, 63, 66, 111, 136 }),
+        new ImmutablePair<>(253, new Integer[] { 2, 4, 5, 9, 13, 18, 20, 23, 24, 27, 28, 31, 38, 40, 44, 50, 61, 70, 72, 77, 79, 86, 88, 104 }),
+        new ImmutablePair<>(255, new Integer[] { 3, 5, 10, 11, 16, 17, 20, 22, 23, 25, 26, 27, 28, 32, 41, 44, 52, 53, 59, 63, 65, 74, 118, 137 }),
+        new ImmutablePair<>(288, new Integer[] { 2, 7, 9, 10, 15, 16, 17, 18, 22, 23, 25, 28, 36, 39, 42, 56, 57, 60, 68, 72, 73, 87, 129, 159 }),
+        new ImmutablePair<>(288, new Integer[] { 1, 5, 7, 8, 9, 14, 17, 20, 21, 26, 30, 32, 34, 36, 48, 51, 54, 59, 64, 69, 72, 93, 123, 165 }),
+        new ImmutablePair<>(290, new Integer[] { 2, 3, 8, 9, 11, 12, 14, 17, 21, 30, 31, 33, 40, 42, 45, 48, 59, 61, 63, 65, 82, 84, 124, 166 }),
+        new ImmutablePair<>(292, new Integer[] { 1, 2, 3, 8, 12, 15, 16, 17, 20, 22, 24, 26, 29, 33, 44, 54, 57, 60, 63, 67, 73, 102, 117, 175 }),
+        new ImmutablePair<>(304, new Integer[] { 3, 5, 7, 11, 12, 17, 20, 22, 25, 29, 35, 47, 48, 55, 56, 57, 69, 72, 76, 92, 96, 100, 116, 132 }),
+        new ImmutablePair<>(304, new Integer[] { 3, 4, 7, 12, 16, 20, 23, 24, 27, 28, 30, 32, 33, 36, 37, 44, 53, 57, 72, 76, 85, 99, 129, 175 }),
+        new ImmutablePair<>(314, new Integer[] { 2, 4, 11, 12, 16, 17, 18, 19, 28, 29, 40, 44, 47, 59, 62, 64, 65, 78, 79, 96, 97, 105, 113, 139 }),
+        new ImmutablePair<>(316, new Integer[] { 3, 9, 10, 12, 13, 14, 15, 23, 24, 33, 36, 37, 48, 52, 54, 55, 57, 65, 66, 78, 79, 93, 144, 172 }),
+        new ImmutablePair<>(326, new Integer[] { 1, 6, 10, 11, 14, 15, 18, 24, 29, 32, 43, 44, 53, 56, 63, 65, 71, 80, 83, 101, 104, 106, 119, 142 }),
+        new ImmutablePair<>(423, new Integer[] { 2, 9, 15, 17, 27, 29, 31, 32, 33, 36, 47, 49, 50, 60, 62, 77, 105, 114, 123, 127, 128, 132, 168, 186 }),
+        new ImmutablePair<>(435, new Integer[] { 1, 2, 8, 10, 13, 19, 23, 33, 44, 45, 56, 74, 76, 78, 80, 88, 93, 100, 112, 131, 142, 143, 150, 192 }),
+        new ImmutablePair<>(435, new Integer[] { 3, 5, 9, 11, 12, 21, 24, 27, 30, 44, 45, 50, 54, 55, 63, 95, 101, 112, 117, 123, 134, 140, 178, 200 }),
+        new ImmutablePair<>(459, new Integer[] { 8, 9, 10, 11, 16, 30, 36, 38, 45, 55, 57, 65, 68, 84, 95, 98, 100, 116, 117, 126, 135, 144, 180, 198 }),
+        new ImmutablePair<>(459, new Integer[] { 4, 6, 9, 10, 17, 21, 23, 25, 31, 33, 36, 38, 45, 50, 83, 115, 117, 126, 133, 135, 144, 146, 180, 198 }),
+        new ImmutablePair<>(479, new Integer[] { 5, 6, 17, 23, 24, 26, 28, 29, 35, 43, 44, 52, 60, 68, 77, 86, 130, 140, 150, 155, 160, 164, 174, 175 }),
+        new ImmutablePair<>(147, new Integer[] { 3, 4, 5, 6, 8, 9, 10, 12, 13, 14, 15, 16, 17, 19, 20, 23, 25, 27, 32, 33, 34, 40, 41, 73, 74 }),
+        new ImmutablePair<>(208, new Integer[] { 1, 2, 3, 4, 5, 7, 8, 11, 12, 17, 18, 24, 26, 28, 29, 30, 36, 39, 44, 45, 50, 59, 60, 89, 119 }),
+        new ImmutablePair<>(213, new Integer[] { 3, 5, 6, 7, 13, 16, 17, 20, 21, 23, 24, 25, 26, 28, 31, 35, 36, 47, 49, 56, 58, 74, 76, 81, 90 }),
+        new ImmutablePair<>(215, new Integer[] { 1, 4, 6, 7, 11, 15, 24, 26, 27, 33, 37, 39, 40, 41, 42, 43, 45, 47, 51, 55, 60, 62, 63, 69, 83 }),
+        new ImmutablePair<>(216, new Integer[] { 1, 2, 3, 4, 5, 7, 8, 11, 16, 17, 18, 19, 25, 30, 32, 33, 39, 41, 45, 49, 54, 59, 64, 103, 113 }),
+        new ImmutablePair<>(236, new Integer[] { 1, 2, 4, 9, 11, 12, 13, 14, 15, 16, 19, 24, 38, 40, 44, 46, 47, 48, 59, 64, 65, 70, 81, 85, 107 }),
+        new ImmutablePair<>(242, new Integer[] { 1, 3, 6, 7, 9, 13, 14, 16, 17, 19, 23, 25, 26, 28, 30, 31, 47, 51, 54, 57, 60, 64, 67, 111, 131 }),
+        new ImmutablePair<>(244, new Integer[] { 1, 2, 4, 5, 7, 10, 15, 17, 19, 20, 21, 22, 26, 27, 30, 37, 40, 41, 45, 65, 66, 68, 70, 110, 134 }),
+        new ImmutablePair<>(252, new Integer[] { 4, 7, 10, 11, 12, 13, 23, 25, 29, 31, 32, 34, 36, 37, 38, 40, 42, 44, 62, 67, 68, 71, 77, 108, 113 }),
+        new ImmutablePair<>(253, new Integer[] { 2, 4, 5, 6, 9, 10, 12, 14, 20, 24, 27, 35, 36, 37, 38, 42, 43, 45, 50, 54, 63, 66, 70, 120, 133 }),
+        new ImmutablePair<>(260, new Integer[] { 1, 4, 6, 7, 10, 15, 24, 26, 27, 28, 29, 31, 33, 34, 37, 38, 44, 65, 70, 71, 77, 78, 83, 100, 112 }),
+        new ImmutablePair<>(264, new Integer[] { 3, 7, 8, 12, 16, 18, 19, 20, 22, 24, 26, 31, 34, 37, 38, 40, 42, 53, 54, 61, 64, 69, 70, 130, 134 }),
+        new ImmutablePair<>(264, new Integer[] { 3, 8, 12, 13, 16, 18, 20, 21, 22, 24, 26, 29, 34, 38, 40, 42, 43, 47, 54, 59, 64, 70, 71, 130, 134 }),
+        new ImmutablePair<>(264, new Integer[] { 1, 3, 4, 6, 9, 10, 11, 12, 16, 17, 18, 20, 21, 22, 39, 42, 54, 56, 61, 66, 68, 69, 73, 129, 135 }),
+        new ImmutablePair<>(265, new Integer[] { 1, 3, 4, 6, 9, 10, 11, 12, 16, 17, 18, 20, 21, 22, 39, 42, 54, 56, 62, 66, 68, 69, 74, 130, 135 }),
+        new ImmutablePair<>(273, new Integer[] { 1, 4, 8, 10, 11, 12, 17, 19, 21, 22, 27, 29, 30, 33, 37, 43, 52, 62, 65, 86, 88, 89, 91, 96, 120 }),
+        new ImmutablePair<>(273, new Integer[] { 1, 6, 9, 14, 16, 17, 18, 21, 22, 23, 25, 31, 32, 38, 44, 46, 48, 50, 54, 62, 65, 68, 78, 133, 140 }),
+        new ImmutablePair<>(275, new Integer[] { 2, 3, 7, 13, 17, 24, 25, 31, 33, 34, 35, 37, 41, 49, 51, 53, 55, 60, 68, 71, 74, 81, 94, 100, 107 }),
+        new ImmutablePair<>(276, new Integer[] { 1, 5, 8, 9, 11, 18, 19, 21, 30, 36, 41, 44, 45, 46, 47, 51, 53, 58, 63, 69, 71, 84, 87, 105, 120 }),
+        new ImmutablePair<>(280, new Integer[] { 5, 6, 11, 17, 18, 20, 21, 24, 27, 28, 32, 34, 41, 42, 50, 53, 54, 55, 68, 78, 85, 88, 95, 97, 117 }),
+        new ImmutablePair<>(280, new Integer[] { 2, 3, 7, 8, 14, 18, 30, 36, 37, 39, 44, 50, 52, 54, 56, 60, 63, 64, 65, 72, 75, 78, 79, 96, 106 }),
+        new ImmutablePair<>(284, new Integer[] { 1, 2, 11, 12, 14, 16, 18, 19, 23, 26, 29, 37, 38, 39, 40, 42, 59, 68, 69, 77, 78, 97, 106, 109, 110 }),
+        new ImmutablePair<>(286, new Integer[] { 1, 4, 5, 7, 10, 12, 15, 16, 20, 23, 28, 30, 32, 33, 35, 37, 53, 54, 64, 68, 74, 79, 80, 133, 153 }),
+        new ImmutablePair<>(289, new Integer[] { 2, 3, 5, 8, 13, 14, 17, 20, 21, 32, 36, 41, 50, 52, 60, 61, 62, 68, 74, 76, 83, 87, 100, 102, 104 }),
+        new ImmutablePair<>(289, new Integer[] { 2, 3, 4, 5, 7, 12, 16, 17, 19, 21, 23, 25, 29, 31, 32, 44, 57, 64, 65, 68, 72, 76, 84, 140, 149 }),
+        new ImmutablePair<>(290, new Integer[] { 1, 2, 10, 11, 13, 14, 15, 17, 18, 28, 29, 34, 36, 38, 50, 56, 60, 69, 77, 80, 85, 91, 94, 111, 119 }),
+        new ImmutablePair<>(293, new Integer[] { 5, 6, 11, 17, 18, 20, 21, 24, 27, 28, 32, 34, 41, 42, 50, 54, 55, 66, 68, 78, 85, 88, 95, 110, 130 }),
+        new ImmutablePair<>(297, new Integer[] { 2, 7, 8, 9, 10, 15, 16, 17, 18, 23, 25, 26, 28, 36, 38, 43, 53, 60, 61, 68, 69, 77, 99, 137, 160 }),
+        new ImmutablePair<>(308, new Integer[] { 1, 3, 4, 7, 10, 12, 13, 23, 25, 34, 37, 38, 39, 43, 44, 45, 62, 77, 79, 85, 87, 108, 113, 115, 116 }),
+        new ImmutablePair<>(308, new Integer[] { 1, 5, 6, 7, 8, 9, 13, 16, 19, 28, 33, 36, 38, 43, 45, 48, 70, 71, 73, 84, 86, 102, 104, 120, 133 }),
+        new ImmutablePair<>(309, new Integer[] { 7, 8, 14, 16, 23, 24, 25, 26, 31, 33, 34, 39, 48, 56, 59, 60, 62, 70, 76, 82, 92, 100, 101, 108, 117 }),
+        new ImmutablePair<>(311, new Integer[] { 2, 7, 8, 9, 10, 15, 16, 17, 18, 23, 25, 26, 28, 36, 38, 43, 53, 60, 61, 68, 83, 91, 99, 151, 160 }),
+        new ImmutablePair<>(314, new Integer[] { 1, 6, 7, 11, 16, 22, 26, 29, 32, 36, 38, 44, 51, 53, 64, 69, 70, 73, 74, 75, 85, 87, 101, 116, 128 }),
+        new ImmutablePair<>(316, new Integer[] { 1, 3, 9, 12, 21, 26, 30, 33, 34, 35, 38, 39, 40, 41, 53, 56, 59, 69, 79, 85, 96, 103, 111, 117, 120 }),
+        new ImmutablePair<>(317, new Integer[] { 1, 5, 6, 7, 8, 9, 16, 17, 19, 32, 37, 40, 42, 47, 49, 52, 59, 75, 81, 92, 94, 110, 112, 113, 126 }),
+        new ImmutablePair<>(320, new Integer[] { 2, 7, 8, 9, 12, 14, 15, 21, 23, 35, 38, 44, 46, 49, 53, 54, 56, 63, 96, 101, 103, 105, 108, 112, 116 }),
+        new ImmutablePair<>(320, new Integer[] { 3, 8, 9, 11, 17, 18, 22, 25, 26, 27, 29, 30, 31, 33, 35, 49, 51, 67, 72, 73, 80, 85, 95, 152, 168 }),
+        new ImmutablePair<>(320, new Integer[] { 1, 4, 6, 7, 8, 13, 14, 16, 24, 28, 30, 33, 34, 38, 41, 42, 57, 60, 69, 78, 81, 90, 92, 150, 170 }),
+        new ImmutablePair<>(320, new Integer[] { 3, 4, 6, 8, 9, 14, 15, 16, 24, 28, 30, 31, 34, 38, 39, 42, 59, 60, 71, 78, 79, 90, 92, 150, 170 }),
+        new ImmutablePair<>(322, new Integer[] { 3, 4, 8, 9, 10, 16, 18, 20, 22, 23, 24, 28, 31, 38, 44, 47, 64, 65, 68, 76, 80, 81, 97, 144, 178 }),
+        new ImmutablePair<>(322, new Integer[] { 3, 4, 8, 10, 15, 16, 18, 19, 20, 22, 24, 28, 35, 38, 44, 53, 59, 64, 68, 76, 80, 85, 93, 144, 178 }),
+        new ImmutablePair<>(323, new Integer[] { 2, 3, 4, 7, 10, 13, 15, 18, 23, 32, 34, 35, 36, 42, 46, 50, 57, 60, 66, 72, 78, 87, 98, 159, 164 }),
+        new ImmutablePair<>(323, new Integer[] { 3, 8, 9, 11, 17, 18, 22, 25, 26, 27, 29, 30, 31, 33, 35, 49, 51, 67, 72, 73, 83, 88, 95, 155, 168 }),
+        new ImmutablePair<>(323, new Integer[] { 2, 6, 9, 11, 13, 14, 18, 19, 20, 23, 27, 28, 29, 42, 46, 48, 60, 64, 72, 74, 79, 82, 98, 146, 177 }),
+        new ImmutablePair<>(325, new Integer[] { 3, 5, 6, 11, 12, 13, 18, 23, 25, 28, 32, 37, 40, 43, 45, 46, 51, 79, 92, 99, 103, 108, 112, 114, 134 }),
+        new ImmutablePair<>(326, new Integer[] { 1, 4, 8, 10, 12, 16, 21, 22, 24, 27, 28, 35, 36, 37, 38, 46, 49, 68, 70, 75, 88, 90, 93, 158, 168 }),
+        new ImmutablePair<>(327, new Integer[] { 2, 9, 10, 12, 13, 16, 19, 21, 23, 26, 36, 44, 46, 52, 55, 61, 62, 74, 84, 87, 100, 103, 104, 120, 140 }),
+        new ImmutablePair<>(328, new Integer[] { 2, 3, 4, 7, 8, 10, 14, 17, 26, 27, 28, 36, 38, 40, 42, 45, 53, 58, 73, 74, 79, 94, 102, 152, 176 }),
+        new ImmutablePair<>(334, new Integer[] { 1, 4, 8, 10, 12, 16, 21, 22, 24, 27, 28, 35, 36, 37, 38, 46, 49, 68, 75, 78, 88, 93, 98, 166, 168 }),
+        new ImmutablePair<>(336, new Integer[] { 2, 3, 4, 7, 8, 10, 14, 17, 26, 27, 28, 36, 38, 40, 45, 50, 53, 58, 73, 74, 79, 94, 110, 152, 184 }),
+        new ImmutablePair<>(338, new Integer[] { 1, 4, 8, 10, 12, 16, 19, 22, 24, 25, 28, 36, 37, 38, 39, 46, 53, 68, 70, 73, 94, 96, 101, 164, 174 }),
+        new ImmutablePair<>(338, new Integer[] { 4, 5, 8, 10, 12, 15, 16, 21, 22, 24, 28, 33, 36, 38, 43, 46, 57, 68, 70, 77, 94, 96, 97, 164, 174 }),
+        new ImmutablePair<>(340, new Integer[] { 1, 4, 5, 6, 11, 13, 16, 17, 22, 24, 44, 46, 50, 51, 52, 53, 61, 64, 66, 79, 84, 85, 92, 169, 171 }),
+        new ImmutablePair<>(344, new Integer[] { 2, 3, 8, 11, 14, 17, 19, 21, 23, 25, 27, 36, 39, 44, 48, 53, 56, 71, 77, 83, 86, 89, 98, 169, 175 }),
+        new ImmutablePair<>(359, new Integer[] { 7, 8, 9, 10, 14, 17, 18, 23, 25, 27, 29, 31, 40, 41, 43, 46, 69, 74, 82, 85, 90, 98, 102, 172, 187 }),
+        new ImmutablePair<>(361, new Integer[] { 2, 6, 7, 8, 9, 14, 20, 22, 26, 27, 32, 34, 36, 47, 49, 56, 66, 67, 74, 82, 89, 98, 107, 156, 205 }),
+        new ImmutablePair<>(363, new Integer[] { 1, 4, 6, 12, 13, 20, 21, 25, 26, 27, 28, 32, 37, 41, 45, 53, 58, 64, 69, 91, 97, 102, 106, 155, 208 }),
+        new ImmutablePair<>(364, new Integer[] { 2, 3, 4, 6, 8, 9, 13, 14, 16, 19, 23, 24, 28, 29, 52, 57, 64, 75, 82, 91, 98, 100, 109, 173, 191 }),
+        new ImmutablePair<>(367, new Integer[] { 1, 4, 6, 12, 13, 20, 21, 25, 26, 27, 28, 32, 37, 41, 49, 53, 58, 64, 69, 91, 97, 102, 110, 155, 212 }),
+        new ImmutablePair<>(368, new Integer[] { 1, 6, 15, 16, 17, 18, 22, 25, 31, 33, 39, 42, 45, 46, 47, 48, 51, 69, 72, 88, 91, 96, 112, 160, 208 }),
+        new ImmutablePair<>(371, new Integer[] { 1, 2, 7, 8, 20, 21, 22, 24, 26, 28, 30, 38, 43, 46, 50, 51, 64, 65, 70, 90, 95, 102, 109, 160, 211 }),
+        new ImmutablePair<>(373, new Integer[] { 3, 6, 7, 8, 15, 17, 22, 23, 31, 32, 35, 41, 43, 60, 62, 68, 79, 87, 104, 105, 114, 120, 121, 138, 148 }),
+        new ImmutablePair<>(378, new Integer[] { 2, 3, 10, 17, 18, 20, 21, 22, 24, 27, 31, 38, 41, 48, 51, 56, 68, 78, 80, 85, 87, 96, 117, 165, 213 }),
+        new ImmutablePair<>(378, new Integer[] { 1, 2, 7, 13, 15, 17, 18, 25, 27, 29, 30, 31, 42, 43, 46, 56, 61, 68, 73, 93, 100, 105, 112, 161, 217 }),
+        new ImmutablePair<>(380, new Integer[] { 4, 7, 17, 18, 19, 20, 21, 26, 31, 33, 35, 40, 45, 48, 49, 60, 67, 73, 79, 81, 87, 107, 113, 186, 194 }),
+        new ImmutablePair<>(380, new Integer[] { 4, 5, 6, 9, 13, 15, 16, 17, 22, 24, 33, 38, 44, 49, 50, 56, 60, 67, 82, 84, 95, 108, 121, 177, 203 }),
+        new ImmutablePair<>(381, new Integer[] { 12, 13, 21, 23, 25, 27, 35, 36, 42, 45, 54, 57, 59, 60, 79, 82, 84, 85, 92, 95, 96, 100, 110, 111, 186 }),
+        new ImmutablePair<>(384, new Integer[] { 1, 4, 8, 9, 11, 12, 19, 21, 27, 32, 35, 44, 45, 46, 47, 51, 60, 67, 84, 89, 96, 108, 120, 180, 204 }),
+        new ImmutablePair<>(384, new Integer[] { 1, 4, 8, 9, 11, 12, 15, 17, 19, 25, 26, 31, 32, 37, 44, 57, 60, 81, 84, 96, 99, 108, 120, 180, 204 }),
+        new ImmutablePair<>(384, new Integer[] { 3, 5, 7, 11, 12, 17, 20, 22, 25, 29, 35, 47, 48, 55, 56, 57, 69, 72, 76, 80, 96, 100, 116, 172, 212 }),
+        new ImmutablePair<>(385, new Integer[] { 1, 2, 7, 13, 15, 17, 18, 25, 27, 29, 30, 31, 43, 46, 49, 56, 61, 68, 73, 93, 100, 105, 119, 161, 224 }),
+        new ImmutablePair<>(392, new Integer[] { 4, 7, 8, 15, 23, 26, 29, 30, 31, 32, 34, 43, 48, 55, 56, 68, 77, 88, 98, 106, 116, 135, 141, 151, 153 }),
+        new ImmutablePair<>(392, new Integer[] { 10, 12, 14, 16, 19, 21, 25, 27, 31, 35, 39, 41, 51, 52, 54, 55, 73, 92, 98, 115, 121, 123, 129, 148, 171 }),
+        new ImmutablePair<>(392, new Integer[] { 1, 4, 5, 8, 11, 14, 16, 21, 22, 24, 27, 28, 30, 31, 52, 64, 81, 83, 96, 97, 98, 99, 114, 195, 197 }),
+        new ImmutablePair<>(393, new Integer[] { 4, 8, 16, 20, 23, 24, 25, 27, 29, 37, 44, 45, 50, 53, 64, 66, 68, 69, 73, 85, 91, 101, 116, 186, 207 }),
+        new ImmutablePair<>(396, new Integer[] { 1, 4, 5, 14, 16, 32, 35, 36, 46, 47, 48, 49, 68, 69, 73, 93, 94, 97, 99, 104, 110, 111, 125, 126, 160 }),
+        new ImmutablePair<>(396, new Integer[] { 1, 4, 5, 8, 11, 14, 16, 21, 22, 24, 27, 28, 30, 31, 52, 64, 81, 83, 98, 99, 100, 101, 114, 197, 199 }),
+        new ImmutablePair<>(396, new Integer[] { 3, 8, 9, 11, 14, 16, 17, 18, 31, 32, 41, 45, 48, 56, 60, 66, 73, 75, 81, 82, 98, 99, 117, 180, 216 }),
+        new ImmutablePair<>(398, new Integer[] { 2, 6, 7, 11, 15, 17, 23, 28, 29, 39, 44, 46, 53, 56, 58, 65, 68, 99, 100, 119, 120, 134, 144, 145, 154 }),
+        new ImmutablePair<>(400, new Integer[] { 3, 6, 21, 23, 24, 26, 29, 35, 37, 40, 41, 47, 53, 55, 64, 76, 79, 81, 99, 100, 121, 122, 137, 142, 179 }),
+        new ImmutablePair<>(404, new Integer[] { 3, 6, 7, 14, 17, 20, 21, 26, 28, 31, 32, 39, 46, 53, 54, 68, 71, 80, 88, 92, 100, 111, 113, 199, 205 }),
+        new ImmutablePair<>(404, new Integer[] { 4, 7, 10, 11, 12, 13, 16, 18, 20, 23, 25, 28, 29, 32, 47, 62, 70, 88, 93, 96, 101, 114, 127, 189, 215 }),
+        new ImmutablePair<>(408, new Integer[] { 2, 3, 7, 13, 16, 18, 20, 27, 30, 33, 41, 43, 46, 52, 54, 57, 72, 79, 84, 100, 105, 108, 116, 195, 213 }),
+        new ImmutablePair<>(412, new Integer[] { 3, 11, 12, 15, 21, 26, 32, 39, 43, 47, 54, 60, 68, 73, 83, 85, 86, 87, 89, 99, 114, 129, 139, 144, 169 }),
+        new ImmutablePair<>(413, new Integer[] { 5, 7, 17, 20, 34, 38, 39, 48, 56, 57, 59, 60, 64, 65, 70, 72, 75, 81, 105, 106, 110, 125, 148, 153, 155 }),
+        new ImmutablePair<>(416, new Integer[] { 2, 4, 7, 11, 13, 24, 25, 30, 35, 37, 39, 40, 44, 58, 62, 65, 82, 104, 112, 120, 128, 135, 143, 153, 169 }),
+        new ImmutablePair<>(416, new Integer[] { 1, 2, 3, 8, 12, 15, 16, 17, 20, 22, 24, 26, 29, 31, 64, 75, 85, 88, 91, 94, 98, 104, 133, 179, 237 }),
+        new ImmutablePair<>(421, new Integer[] { 1, 2, 4, 5, 7, 9, 12, 16, 20, 22, 23, 35, 38, 48, 56, 83, 94, 104, 116, 118, 128, 140, 150, 153, 177 }),
+        new ImmutablePair<>(421, new Integer[] { 5, 11, 12, 17, 18, 20, 23, 26, 29, 36, 38, 40, 44, 51, 55, 59, 72, 92, 97, 102, 105, 107, 117, 199, 222 }),
+        new ImmutablePair<>(422, new Integer[] { 2, 4, 7, 13, 16, 18, 20, 23, 28, 29, 38, 43, 46, 51, 59, 68, 74, 79, 86, 93, 100, 111, 132, 179, 243 }),
+        new ImmutablePair<>(425, new Integer[] { 3, 4, 5, 9, 10, 12, 13, 14, 16, 19, 20, 31, 46, 48, 56, 79, 102, 104, 116, 126, 128, 140, 142, 157, 181 }),
+        new ImmutablePair<>(441, new Integer[] { 5, 6, 7, 16, 18, 23, 24, 27, 38, 39, 47, 51, 52, 62, 66, 72, 80, 84, 92, 101, 102, 118, 120, 219, 222 }),
+        new ImmutablePair<>(454, new Integer[] { 1, 2, 11, 17, 29, 34, 35, 46, 48, 51, 53, 55, 63, 69, 79, 87, 88, 91, 109, 134, 136, 143, 150, 161, 184 }),
+        new ImmutablePair<>(456, new Integer[] { 5, 7, 10, 11, 13, 15, 18, 19, 31, 49, 50, 52, 59, 60, 63, 72, 77, 115, 128, 129, 135, 142, 148, 179, 193 }),
+        new ImmutablePair<>(465, new Integer[] { 6, 9, 13, 14, 19, 21, 24, 25, 31, 32, 53, 56, 64, 73, 74, 82, 91, 111, 125, 127, 137, 139, 153, 173, 201 }),
+        new ImmutablePair<>(472, new Integer[] { 7, 9, 13, 15, 26, 34, 35, 44, 47, 51, 58, 61, 65, 81, 87, 103, 104, 115, 118, 123, 128, 133, 136, 148, 221 }),
+        new ImmutablePair<>(477, new Integer[] { 3, 5, 12, 16, 19, 22, 25, 26, 37, 41, 49, 72, 76, 77, 82, 86, 87, 115, 117, 135, 141, 149, 167, 169, 193 }),
+        new ImmutablePair<>(492, new Integer[] { 2, 9, 15, 17, 27, 29, 31, 32, 33, 36, 47, 49, 50, 60, 62, 69, 77, 105, 114, 123, 127, 128, 132, 237, 255 }),
+        new ImmutablePair<>(492, new Integer[] { 3, 5, 9, 11, 12, 21, 24, 27, 30, 44, 45, 50, 54, 55, 57, 63, 95, 101, 112, 117, 123, 134, 140, 235, 257 }),
+        new ImmutablePair<>(503, new Integer[] { 4, 15, 16, 19, 22, 23, 25, 27, 33, 34, 50, 62, 67, 87, 88, 93, 100, 113, 135, 143, 149, 157, 167, 179, 211 }),
+        new ImmutablePair<>(506, new Integer[] { 1, 7, 24, 26, 33, 35, 40, 45, 47, 51, 55, 69, 87, 90, 93, 96, 117, 125, 134, 145, 146, 147, 160, 162, 199 }),
+        new ImmutablePair<>(507, new Integer[] { 2, 3, 7, 11, 13, 15, 28, 34, 43, 50, 57, 64, 80, 83, 86, 89, 107, 115, 116, 127, 149, 163, 175, 183, 217 }),
+        new ImmutablePair<>(512, new Integer[] { 1, 7, 8, 9, 10, 15, 22, 32, 34, 46, 51, 65, 69, 71, 91, 105, 109, 111, 136, 139, 152, 157, 173, 200, 203 }),
+        new ImmutablePair<>(512, new Integer[] { 1, 6, 7, 8, 9, 13, 17, 19, 35, 45, 47, 57, 62, 73, 88, 93, 104, 107, 128, 130, 151, 163, 184, 198, 221 }),
+        new ImmutablePair<>(513, new Integer[] { 6, 9, 10, 17, 19, 24, 28, 29, 37, 39, 64, 65, 68, 81, 98, 99, 102, 115, 145, 147, 153, 159, 165, 189, 201 }),
+        new ImmutablePair<>(517, new Integer[] { 5, 6, 7, 16, 20, 24, 28, 33, 38, 43, 63, 71, 80, 83, 86, 92, 98, 122, 132, 148, 164, 166, 173, 180, 205 }),
+        new ImmutablePair<>(524, new Integer[] { 9, 12, 20, 21, 33, 35, 37, 39, 54, 55, 61, 62, 87, 90, 98, 101, 125, 132, 135, 141, 145, 159, 163, 164, 220 }),
+        new ImmutablePair<>(527, new Integer[] { 11, 12, 13, 14, 19, 30, 41, 47, 50, 52, 59, 68, 71, 81, 94, 97, 107, 132, 147, 151, 155, 169, 175, 183, 197 }),
+        new ImmutablePair<>(528, new Integer[] { 2, 9, 15, 17, 27, 29, 31, 32, 33, 36, 47, 49, 50, 60, 62, 69, 77, 123, 127, 128, 132, 141, 150, 255, 273 }),
+        new ImmutablePair<>(529, new Integer[] { 9, 12, 20, 21, 33, 35, 37, 39, 54, 55, 61, 62, 87, 90, 98, 101, 125, 132, 140, 141, 145, 159, 163, 169, 225 }),
+        new ImmutablePair<>(531, new Integer[] { 6, 9, 10, 17, 19, 24, 29, 31, 39, 40, 67, 68, 71, 84, 101, 102, 105, 118, 151, 153, 159, 165, 171, 195, 207 }),
+        new ImmutablePair<>(532, new Integer[] { 16, 18, 26, 27, 33, 39, 41, 50, 51, 55, 69, 71, 84, 87, 91, 94, 132, 133, 141, 143, 164, 168, 169, 173, 195 }),
+        new ImmutablePair<>(534, new Integer[] { 11, 13, 15, 17, 18, 27, 38, 44, 49, 52, 60, 61, 68, 81, 87, 94, 107, 135, 149, 153, 159, 171, 174, 189, 210 }),
+        new ImmutablePair<>(535, new Integer[] { 2, 8, 26, 27, 36, 41, 45, 57, 62, 77, 88, 95, 97, 99, 101, 102, 109, 114, 117, 118, 141, 147, 168, 192, 226 }),
+        new ImmutablePair<>(536, new Integer[] { 1, 8, 21, 30, 31, 32, 33, 41, 44, 46, 49, 55, 57, 61, 84, 91, 113, 134, 137, 139, 150, 155, 176, 205, 247 }),
+        new ImmutablePair<>(536, new Integer[] { 3, 5, 9, 11, 12, 21, 24, 27, 30, 44, 45, 50, 54, 55, 57, 63, 95, 117, 123, 134, 140, 145, 156, 257, 279 }),
+        new ImmutablePair<>(540, new Integer[] { 1, 7, 8, 9, 10, 14, 19, 34, 36, 51, 58, 69, 81, 83, 97, 109, 111, 115, 136, 149, 152, 167, 183, 208, 221 }),
+        new ImmutablePair<>(540, new Integer[] { 6, 13, 15, 25, 28, 36, 43, 47, 55, 57, 58, 59, 60, 65, 82, 89, 91, 107, 124, 127, 144, 163, 183, 233, 250 }),
+        new ImmutablePair<>(540, new Integer[] { 8, 9, 10, 11, 16, 30, 36, 38, 45, 55, 57, 65, 68, 81, 84, 95, 98, 100, 116, 117, 126, 135, 144, 261, 279 }),
+        new ImmutablePair<>(540, new Integer[] { 4, 6, 9, 10, 17, 21, 23, 25, 31, 33, 36, 38, 45, 50, 81, 83, 115, 117, 126, 133, 135, 144, 146, 261, 279 }),
+        new ImmutablePair<>(541, new Integer[] { 3, 4, 11, 13, 16, 17, 21, 25, 26, 44, 46, 64, 75, 86, 87, 97, 106, 109, 133, 141, 165, 185, 191, 215, 217 }),
+        new ImmutablePair<>(541, new Integer[] { 3, 5, 27, 32, 33, 37, 47, 50, 53, 56, 57, 69, 71, 78, 97, 98, 109, 111, 126, 144, 165, 169, 183, 189, 232 }),
+        new ImmutablePair<>(544, new Integer[] { 1, 7, 24, 26, 33, 35, 40, 45, 47, 51, 55, 69, 87, 90, 93, 96, 117, 125, 134, 145, 147, 184, 198, 199, 200 }),
+        new ImmutablePair<>(544, new Integer[] { 6, 8, 20, 21, 23, 41, 42, 48, 59, 61, 77, 80, 81, 85, 90, 92, 93, 102, 115, 132, 139, 168, 198, 207, 244 }),
+        new ImmutablePair<>(547, new Integer[] { 3, 5, 16, 22, 26, 27, 35, 47, 49, 59, 67, 71, 72, 85, 87, 102, 103, 111, 137, 144, 150, 197, 200, 203, 207 }),
+        new ImmutablePair<>(549, new Integer[] { 4, 10, 14, 24, 26, 31, 34, 36, 38, 40, 43, 48, 59, 63, 74, 89, 97, 105, 117, 124, 136, 152, 156, 241, 308 }),
+        new ImmutablePair<>(550, new Integer[] { 1, 2, 5, 13, 19, 20, 25, 30, 39, 43, 58, 59, 73, 75, 76, 90, 95, 103, 116, 128, 130, 132, 172, 262, 288 }),
+        new ImmutablePair<>(550, new Integer[] { 1, 11, 16, 23, 24, 27, 29, 36, 41, 43, 44, 47, 59, 70, 71, 80, 99, 103, 111, 116, 128, 156, 167, 227, 323 }),
+        new ImmutablePair<>(551, new Integer[] { 3, 5, 24, 25, 26, 30, 35, 36, 39, 40, 42, 57, 68, 76, 94, 109, 120, 128, 152, 162, 166, 175, 176, 200, 223 }),
+        new ImmutablePair<>(552, new Integer[] { 5, 17, 18, 22, 25, 27, 32, 33, 39, 59, 62, 87, 91, 100, 102, 111, 112, 135, 137, 149, 165, 168, 183, 201, 204 }),
+        new ImmutablePair<>(552, new Integer[] { 1, 3, 4, 7, 8, 9, 10, 15, 18, 19, 21, 41, 52, 54, 73, 93, 95, 123, 125, 136, 138, 153, 168, 261, 291 }),
+        new ImmutablePair<>(556, new Integer[] { 6, 8, 10, 13, 19, 25, 32, 37, 49, 54, 58, 76, 84, 91, 92, 100, 107, 128, 145, 156, 165, 185, 195, 205, 206 }),
+        new ImmutablePair<>(556, new Integer[] { 3, 12, 13, 15, 19, 23, 27, 34, 35, 39, 42, 45, 48, 52, 53, 87, 140, 145, 158, 166, 171, 184, 189, 201, 227 }),
+        new ImmutablePair<>(556, new Integer[] { 1, 5, 7, 8, 9, 10, 12, 14, 20, 27, 31, 43, 47, 50, 74, 93, 97, 121, 125, 139, 143, 153, 167, 264, 292 }),
+        new ImmutablePair<>(562, new Integer[] { 2, 3, 5, 8, 13, 19, 20, 29, 33, 47, 53, 54, 64, 65, 76, 93, 119, 123, 142, 157, 161, 180, 184, 221, 259 }),
+        new ImmutablePair<>(570, new Integer[] { 3, 9, 10, 33, 36, 38, 40, 42, 50, 51, 60, 69, 72, 75, 77, 90, 113, 140, 141, 151, 152, 189, 200, 229, 230 }),
+        new ImmutablePair<>(575, new Integer[] { 4, 6, 14, 16, 31, 39, 63, 69, 74, 81, 88, 103, 107, 111, 115, 120, 131, 132, 133, 147, 156, 159, 164, 198, 218 }),
+        new ImmutablePair<>(576, new Integer[] { 1, 4, 9, 11, 15, 19, 22, 34, 36, 53, 60, 76, 82, 84, 104, 126, 127, 128, 153, 156, 165, 174, 183, 219, 237 }),
+        new ImmutablePair<>(576, new Integer[] { 8, 9, 10, 11, 16, 30, 36, 38, 45, 55, 57, 65, 68, 81, 84, 95, 98, 100, 116, 135, 144, 153, 162, 279, 297 }),
+        new ImmutablePair<>(576, new Integer[] { 4, 6, 9, 10, 17, 21, 23, 25, 31, 33, 36, 38, 45, 50, 81, 83, 115, 133, 135, 144, 146, 153, 162, 279, 297 }),
+        new ImmutablePair<>(580, new Integer[] { 2, 5, 7, 10, 12, 13, 19, 21, 22, 29, 36, 40, 61, 65, 74, 101, 135, 139, 161, 179, 183, 192, 205, 209, 236 }),
+        new ImmutablePair<>(580, new Integer[] { 5, 6, 11, 13, 16, 17, 21, 25, 34, 44, 54, 68, 80, 88, 100, 112, 120, 135, 142, 145, 170, 173, 195, 215, 265 }),
+        new ImmutablePair<>(580, new Integer[] { 11, 12, 16, 17, 29, 32, 39, 41, 53, 55, 59, 60, 68, 70, 81, 84, 92, 124, 125, 128, 129, 156, 171, 280, 300 }),
+        new ImmutablePair<>(593, new Integer[] { 13, 14, 15, 35, 48, 51, 55, 67, 73, 79, 83, 91, 94, 105, 109, 116, 119, 124, 133, 150, 171, 173, 196, 217, 226 }),
+        new ImmutablePair<>(595, new Integer[] { 4, 13, 18, 19, 22, 35, 40, 48, 58, 61, 62, 77, 78, 82, 83, 86, 118, 149, 163, 168, 187, 192, 202, 206, 240 }),
+        new ImmutablePair<>(601, new Integer[] { 7, 8, 25, 34, 41, 42, 46, 48, 54, 55, 62, 70, 71, 74, 98, 103, 116, 143, 168, 169, 190, 192, 193, 218, 240 }),
+        new ImmutablePair<>(603, new Integer[] { 7, 11, 12, 14, 21, 25, 32, 40, 52, 56, 60, 67, 68, 81, 91, 92, 132, 144, 149, 163, 177, 191, 196, 235, 263 }),
+        new ImmutablePair<>(603, new Integer[] { 13, 23, 26, 27, 35, 44, 45, 49, 53, 54, 57, 66, 75, 99, 101, 110, 122, 126, 144, 158, 175, 180, 189, 234, 270 }),
+        new ImmutablePair<>(607, new Integer[] { 6, 8, 10, 13, 19, 25, 32, 37, 49, 54, 58, 76, 84, 91, 92, 100, 107, 128, 156, 185, 196, 205, 206, 216, 246 }),
+        new ImmutablePair<>(609, new Integer[] { 9, 14, 15, 17, 32, 45, 47, 58, 67, 74, 76, 79, 80, 83, 97, 111, 125, 126, 150, 170, 186, 188, 215, 224, 235 }),
+        new ImmutablePair<>(611, new Integer[] { 1, 10, 22, 26, 32, 41, 45, 54, 57, 61, 62, 66, 85, 86, 87, 95, 97, 101, 119, 132, 136, 167, 176, 268, 343 }),
+        new ImmutablePair<>(614, new Integer[] { 15, 22, 24, 31, 33, 49, 53, 54, 57, 60, 63, 68, 74, 81, 83, 104, 109, 151, 155, 163, 167, 217, 229, 230, 234 }),
+        new ImmutablePair<>(634, new Integer[] { 15, 17, 24, 26, 33, 43, 44, 54, 57, 60, 63, 73, 79, 81, 88, 109, 119, 160, 161, 172, 173, 227, 234, 235, 239 }),
+        new ImmutablePair<>(643, new Integer[] { 2, 9, 21, 29, 38, 40, 41, 42, 58, 62, 67, 76, 82, 83, 85, 96, 104, 166, 172, 186, 192, 201, 207, 250, 270 }),
+        new ImmutablePair<>(644, new Integer[] { 7, 9, 13, 18, 19, 22, 31, 49, 53, 61, 66, 68, 71, 87, 93, 94, 119, 164, 178, 192, 199, 206, 227, 239, 253 }),
+        new ImmutablePair<>(655, new Integer[] { 10, 14, 15, 21, 25, 26, 31, 40, 51, 53, 54, 57, 65, 83, 84, 86, 151, 152, 173, 193, 194, 215, 216, 246, 288 }),
+        new ImmutablePair<>(661, new Integer[] { 5, 7, 17, 18, 23, 31, 36, 38, 41, 64, 73, 77, 83, 84, 102, 106, 111, 161, 175, 196, 203, 210, 238, 248, 262 })
+    };
+
+    /*
+     * Reads instances written by InstanceGenerator: one per line,
+     * "N s1 s2 ... sk"; empty lines and lines starting with # are
+     * skipped.
+     */
+    static Pair<Integer, Integer[]>[] Load(String path) throws IOException {
+        List<Pair<Integer, Integer[]>> loaded = new ArrayList<>();
+        for (String line : Files.readAllLines(Paths.get(path))) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#"))
+                continue;
+            String[] f = line.split("\\s+");
+            Integer[] S = new Integer[f.length - 1];
+            for (int i = 1; i < f.length; i++)
+                S[i - 1] = Integer.valueOf(f[i]);
+            loaded.add(new ImmutablePair<>(Integer.valueOf(f[0]), S));
+        }
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Pair<Integer, Integer[]>[] result = loaded.toArray(new Pair[loaded.size()]);
+        return result;
+    }
+
+    /*
+     * Prints what is wrong with the arguments and how to call, and
+     * exits.
+     */
+    static void Usage(String problem) {
+        System.err.println(problem);
+        System.err.println("Arguments: <Problem instance, integer:[0,203] or file[:line]> <Complete Search, boolean> [split] [profile=P]");
+        System.err.println("P is DIFF2, DIFF2_TIMETABLE, DIFF2_CUMULATIVE, DIFF2_AREA or auto");
+        System.err.println("split needs Complete Search true");
+        System.exit(1);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Pair<Integer, Integer[]>[] instances = Solver.instances;
         int id = 0;
-        try {
-            if(args.length > 0)
-                id = Math.min(Math.max(0, Integer.valueOf(args[0])), 203);
-        } catch(NumberFormatException e) {
-            System.err.println("Invalid first argument, use an integer eg. 0, 1, ..., 203");
-            System.exit(1);
+        if(args.length > 0 && args[0].matches("-?\\d+")) {
+            try {
+                id = Integer.valueOf(args[0]);
+            } catch(NumberFormatException e) {
+                id = -1;
+            }
+            if (id < 0 || id >= instances.length)
+                Usage("Invalid first argument " + args[0] + ", use an integer eg. 0, 1, ..., 203 or file[:line]");
+        } else if(args.length > 0) {
+            // an instance file, optionally with :line (default 0)
+            String path = args[0];
+            int colon = path.lastIndexOf(':');
+            if (colon > 0 && path.substring(colon + 1).matches("\\d+")) {
+                try {
+                    id = Integer.valueOf(path.substring(colon + 1));
+                } catch(NumberFormatException e) {
+                    id = Integer.MAX_VALUE;
+                }
+                path = path.substring(0, colon);
+            }
+            if (!Files.isRegularFile(Paths.get(path)))
+                Usage("Invalid first argument " + args[0] + ", no instance file " + path);
+            try {
+                instances = Load(path);
+            } catch(NumberFormatException e) {
+                Usage("Invalid instance file " + path + ", lines are \"N s1 s2 ... sk\": " + e.getMessage());
+            }
+            if (instances.length == 0)
+                Usage("Invalid instance file " + path + ", it has no instances");
+            if (id >= instances.length)
+                Usage("Invalid first argument " + args[0] + ", " + path + " has instances 0.." + (instances.length - 1));
         }
         boolean search_all = false;
         if (args.length > 1) {
             search_all = Boolean.valueOf(args[1]);
         }
+        boolean split = false;
+        Profile profile = Profile.DIFF2_CUMULATIVE;
+        boolean probe = false;
+        for (int i = 2; i < args.length; i++) {
+            if (args[i].equals("split"))
+                split = true;
+            else if (args[i].equals("profile=auto"))
+                probe = true;
+            else if (args[i].startsWith("profile=")) {
+                try {
+                    profile = Profile.valueOf(args[i].substring(8));
+                } catch(IllegalArgumentException e) {
+                    Usage("Invalid profile " + args[i].substring(8));
+                }
+            } else
+                Usage("Invalid argument " + args[i]);
+        }
+        if (split && !search_all)
+            Usage("split searches all solutions, use Complete Search true");
+        if (probe) {
+            long[][] probes = Probe(instances[id], 10000);
+            System.out.format("%-18s %7s %10s %10s %8s %10s%n", "profile", "solved", "nodes", "failures", "ms", "us/node");
+            for (Profile p : Profile.values()) {
+                long[] r = probes[p.ordinal()];
+                System.out.format("%-18s %7s %10d %10d %8d %10.1f%n", p, r[0] == 1 ? "yes" : "no",
+                        r[1], r[2], r[3], 1000.0 * r[3] / Math.max(1, r[1]));
+            }
+            profile = Choose(probes);
+            System.out.println("Profile: " + profile);
+        }
+        if (split) {
+            System.out.println("Searching for all distinct solutions for instance #" + id + ", split on the largest square");
+            for (boolean reuse : new boolean[] { false, true }) {
+                long[] stats = SolveSplit(instances[id], reuse, profile);
+                System.out.println();
+                System.out.println(reuse ? "Reusing the propagated root:" : "Rebuilding per sub-search:");
+                System.out.println("Sub-searches: " + stats[3]);
+                System.out.println("Solutions: " + stats[0]);
+                System.out.println("Nodes: " + stats[1]);
+                System.out.println("Failures: " + stats[2]);
+                System.out.println("Construction time: " + stats[4] + "ms");
+                System.out.println("Search time: " + stats[5] + "ms");
+            }
+            return;
+        }
         System.out.println("Searching for " + (search_all ? "all distinct solutions" : "a solution") + " for instance #" + id);
-        Solve(instances[id], search_all);
+        Solve(instances[id], search_all, true, 0, profile);
     }
 }
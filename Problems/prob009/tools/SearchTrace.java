@@ -0,0 +1,241 @@
+/*
+ *  CSPLib prob009: Perfect Square Placement
+ *
+ *  - Records the search tree of the JaCoP model in prob009.java to a
+ *    compact binary log, for finding where a slow instance spends its
+ *    search
+ *
+ *  The log has the format of org.csplib.tools.TraceFormat, which the
+ *  report of NQueensTrace in prob054/tools reads: per-depth and
+ *  per-variable decision and failure tables, and folded stacks of the
+ *  decision paths for flamegraph.pl. Records are
+ *    'A' depth var   decision var = value, as the select makes it
+ *    'R' depth var   var != value, when a left child had no solution
+ *    'F' depth var   failed consistency after a decision on var
+ *    'S' depth       solution
+ *  with the variables X0.., then Y0... depth is the store level and var
+ *  the variable's index; the choices are seen by wrapping the select of
+ *  each phase, the refutations by an ExitChildListener and the
+ *  failures by a ConsistencyListener on both searches. With sample k,
+ *  only every k-th decision and every k-th failure is written; the
+ *  writes go through a 64 KB buffer.
+ *
+ *  Arguments: <log> <Problem instance, integer:[0,203]> [Complete Search, boolean]
+ *             [sample, default 1] [CP time out, seconds, default none]
+ *  e.g. $java -classpath .;commons-lang3-*.jar;jacop-4.4.0.jar SearchTrace 179.log 179 false 1 60
+ *       $java com.google.ortools.constraintsolver.samples.NQueensTrace report 179.log 179.folded 20
+ *
+ *  License: MIT
+ *
+ */
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.csplib.tools.TraceFormat;
+import org.jacop.constraints.PrimitiveConstraint;
+import org.jacop.core.IntVar;
+import org.jacop.core.Store;
+import org.jacop.search.ConsistencyListener;
+import org.jacop.search.DepthFirstSearch;
+import org.jacop.search.ExitChildListener;
+import org.jacop.search.IndomainMin;
+import org.jacop.search.SelectChoicePoint;
+import org.jacop.search.SimpleSelect;
+import org.jacop.search.SmallestDomain;
+import org.jacop.search.SmallestMin;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.IdentityHashMap;
+
+public class SearchTrace {
+    static class Recorder implements ConsistencyListener, ExitChildListener<IntVar> {
+        final Store store;
+        final DataOutputStream out;
+        final int sample;
+        final IdentityHashMap<IntVar, Integer> index = new IdentityHashMap<>();
+        long decisions;
+        long failures;
+        int lastVar = -1; // the last decision's var, sampled or not
+
+        Recorder(Store store, DataOutputStream out, int sample, IntVar[] vars) {
+            this.store = store;
+            this.out = out;
+            this.sample = sample;
+            for (int i = 0; i < vars.length; i++)
+                index.put(vars[i], i);
+        }
+
+        int index(IntVar var) {
+            return index.getOrDefault(var, -1);
+        }
+
+        void write(int tag, int var) {
+            try {
+                TraceFormat.write(out, tag, store.level, var);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /*
+         * The select of a phase, recording each choice it makes. In the
+         * last phase no variable left to choose is a solution.
+         */
+        class Select implements SelectChoicePoint<IntVar> {
+            final SelectChoicePoint<IntVar> select;
+            final boolean last;
+            IntVar var;
+
+            Select(SelectChoicePoint<IntVar> select, boolean last) {
+                this.select = select;
+                this.last = last;
+            }
+
+            public IntVar getChoiceVariable(int index) {
+                var = select.getChoiceVariable(index);
+                if (var == null && last)
+                    write(TraceFormat.SOLUTION, 0);
+                return var;
+            }
+
+            public int getChoiceValue() {
+                lastVar = index(var);
+                if (decisions++ % sample == 0)
+                    write(TraceFormat.APPLY, lastVar);
+                return select.getChoiceValue();
+            }
+
+            public PrimitiveConstraint getChoiceConstraint(int index) {
+                return select.getChoiceConstraint(index);
+            }
+
+            public IdentityHashMap<IntVar, Integer> getVariablesMapping() {
+                return select.getVariablesMapping();
+            }
+
+            public int getIndex() {
+                return select.getIndex();
+            }
+        }
+
+        public boolean executeAfterConsistency(boolean consistent) {
+            if (!consistent && failures++ % sample == 0)
+                write(TraceFormat.FAIL, lastVar);
+            return consistent;
+        }
+
+        public boolean leftChild(IntVar var, int value, boolean status) {
+            // the search goes on to var != value only if the left child failed
+            if (status)
+                return true;
+            lastVar = index(var);
+            if (decisions++ % sample == 0)
+                write(TraceFormat.REFUTE, lastVar);
+            return true;
+        }
+
+        public boolean leftChild(PrimitiveConstraint choice, boolean status) {
+            return true;
+        }
+
+        public void rightChild(IntVar var, int value, boolean status) {
+        }
+
+        public void rightChild(PrimitiveConstraint choice, boolean status) {
+        }
+
+        // a single listener on each search: nothing to pass on to children
+
+        public void setChildrenListeners(ConsistencyListener[] children) {
+        }
+
+        public void setChildrenListeners(ConsistencyListener child) {
+        }
+
+        public void setChildrenListeners(ExitChildListener<IntVar>[] children) {
+        }
+
+        public void setChildrenListeners(ExitChildListener<IntVar> child) {
+        }
+    }
+
+    /*
+     * Searches the instance as Solver.Solve does, with the default
+     * profile, recording to log. Returns {solutions, nodes, failures,
+     * search time in ms}.
+     */
+    static long[] Record(Pair<Integer, Integer[]> data, boolean searchAll, int sample, int timeOut, File log) throws IOException {
+        int N = data.getLeft();
+        Integer[] S = data.getRight().clone();
+        ArrayUtils.reverse(S);
+        Store store = new Store();
+        IntVar[][] XY = Solver.Model(store, N, S);
+        IntVar[] vars = ArrayUtils.addAll(XY[0], XY[1]);
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(log), 1 << 16));
+        try {
+            String[] names = new String[vars.length];
+            for (int i = 0; i < vars.length; i++)
+                names[i] = vars[i].id();
+            TraceFormat.writeHeader(out, sample, names);
+
+            Recorder recorder = new Recorder(store, out, sample, vars);
+            DepthFirstSearch<IntVar> searchX = new DepthFirstSearch<IntVar>();
+            DepthFirstSearch<IntVar> searchY = new DepthFirstSearch<IntVar>();
+            SelectChoicePoint<IntVar> labelX = recorder.new Select(
+                    new SimpleSelect<>(XY[0], new SmallestMin<>(), new SmallestDomain<>(), new IndomainMin<>()), false);
+            SelectChoicePoint<IntVar> labelY = recorder.new Select(
+                    new SimpleSelect<>(XY[1], new SmallestMin<>(), new SmallestDomain<>(), new IndomainMin<>()), true);
+            searchY.setSelectChoicePoint(labelY);
+            searchX.addChildSearch(searchY);
+            searchX.setConsistencyListener(recorder);
+            searchY.setConsistencyListener(recorder);
+            searchX.setExitChildListener(recorder);
+            searchY.setExitChildListener(recorder);
+
+            if (searchAll)
+                searchX.getSolutionListener().searchAll(true);
+            if (timeOut > 0) {
+                searchX.setTimeOut(timeOut);
+                searchY.setTimeOut(timeOut);
+            }
+            searchX.setPrintInfo(false);
+            searchY.setPrintInfo(false);
+            long start = System.currentTimeMillis();
+            searchX.labeling(store, labelX);
+            long searchTime = System.currentTimeMillis() - start;
+            return new long[] { searchX.getSolutionListener().solutionsNo(),
+                    searchX.getNodes() + searchY.getNodes(),
+                    searchX.getWrongDecisions() + searchY.getWrongDecisions(), searchTime };
+        } finally {
+            out.close();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int id = -1;
+        if (args.length > 1 && args[1].matches("\\d+") && args[1].length() < 4)
+            id = Integer.valueOf(args[1]);
+        if (id < 0 || id >= Solver.instances.length) {
+            System.err.println("Arguments: <log> <instance, 0.." + (Solver.instances.length - 1)
+                    + "> [Complete Search] [sample] [time out]");
+            System.exit(1);
+        }
+        boolean searchAll = args.length > 2 && Boolean.valueOf(args[2]);
+        int sample = args.length > 3 ? Math.max(1, Integer.valueOf(args[3])) : 1;
+        int timeOut = args.length > 4 ? Integer.valueOf(args[4]) : 0;
+
+        File log = new File(args[0]);
+        long[] stats = Record(Solver.instances[id], searchAll, sample, timeOut, log);
+        System.out.println("Solutions: " + stats[0]);
+        System.out.println("Nodes: " + stats[1]);
+        System.out.println("Failures: " + stats[2]);
+        System.out.println("Search time: " + stats[3] + "ms");
+        System.out.println("Log: " + log.length() + " bytes");
+    }
+}
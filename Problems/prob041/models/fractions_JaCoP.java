@@ -39,7 +39,26 @@ import org.jacop.search.Search;
 import org.jacop.search.SelectChoicePoint;
 
 public class fractions_JaCoP {      
+
+    // Checks a solution in exact integer arithmetic: distinct non-zero
+    // digits and A/BC + D/EF + G/HI = 1, with BC = 10*B+C as in the model.
+    static boolean check(int a, int b, int c, int d, int e, int f, int g, int h, int i) {
+        int[] digits = {a, b, c, d, e, f, g, h, i};
+        boolean[] seen = new boolean[10];
+        for (int x : digits) {
+            if (x < 1 || x > 9 || seen[x]) {
+                return false;
+            }
+            seen[x] = true;
+        }
+        long bc = 10 * b + c;
+        long ef = 10 * e + f;
+        long hi = 10 * h + i;
+        return a * ef * hi + d * bc * hi + g * bc * ef == bc * ef * hi;
+    }
+
     public static void main (String[] args) { 
+        long start = System.currentTimeMillis();
         Store store = new Store();  // define FD store 
         
         // define finite domain variables 
@@ -101,11 +120,31 @@ public class fractions_JaCoP {
         store.impose(new XgtY(G, D));
         store.impose(new XgtY(D, A));
         
+        long modelTime = System.currentTimeMillis() - start;
+
         // search for a solution and print results 
         Search<IntVar> search = new DepthFirstSearch<>(); 
         SelectChoicePoint<IntVar> select = new InputOrderSelect<>(store, digits, new IndomainMin<>()); 
-        search.setSolutionListener(new PrintOutListener<>()); 
+        search.setSolutionListener(new PrintOutListener<IntVar>() {
+            @Override
+            public boolean executeAfterSolution(Search<IntVar> search, SelectChoicePoint<IntVar> select) {
+                // checked before PrintOutListener prints it
+                if (!check(A.value(), B.value(), C.value(), D.value(), E.value(),
+                           F.value(), G.value(), H.value(), I.value())) {
+                    throw new IllegalStateException("invalid solution");
+                }
+                return super.executeAfterSolution(search, select);
+            }
+        });
         search.getSolutionListener().searchAll(true); 
+        start = System.currentTimeMillis();
         search.labeling(store, select);      
+        long searchTime = System.currentTimeMillis() - start;
+
+        System.out.println("Solutions: " + search.getSolutionListener().solutionsNo());
+        System.out.println("Nodes: " + search.getNodes());
+        System.out.println("Failures: " + search.getWrongDecisions());
+        System.out.println("Model time: " + modelTime + "ms");
+        System.out.println("Search time: " + searchTime + "ms");
     } 
 }
@@ -41,13 +41,24 @@ import javax.constraints.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.text.*;
 
 public class SetPartition {
 
     int n;
     int num_sets = 2;
+    int degree = 2;   // equal power sums up to this degree (lean model)
+    boolean feasible = true;
 
+    // output of solve: print each solution, or only count them (print
+    // false, sink null), or stream them to sink. The stream holds n and
+    // num_sets as ints, then per solution and per set 0..num_sets-2 the
+    // membership bitmask of {1..n} in (n+63)/64 longs, bit j for j+1.
+    boolean print = true;
+    DataOutputStream sink;
+
+    Var[][] a;
     Var[] a_flatten;
     Problem p = ProblemFactory.newProblem("SetPartition");
 
@@ -55,14 +66,86 @@ public class SetPartition {
     public static void main(String[] args) {
 
         int n_in = 16;
+        boolean lean = false;
+        int num_sets_in = 2;
+        int degree_in = 2;
+        int threads = 0;
+        String output = "print";
 
         if (args.length > 0) {
             n_in = Integer.parseInt(args[0]);
         }
 
+        if (args.length > 1) {
+            lean = Integer.parseInt(args[1]) != 0;
+        }
+
+        if (args.length > 2) {
+            num_sets_in = Integer.parseInt(args[2]);
+        }
+
+        if (args.length > 3) {
+            degree_in = Integer.parseInt(args[3]);
+        }
+
+        if (args.length > 4) {
+            threads = Integer.parseInt(args[4]);
+        }
+
+        if (args.length > 5) {
+            output = args[5];
+        }
+
+        // define is the original 2-way model with degree 2
+        if (num_sets_in != 2 || degree_in != 2) {
+            lean = true;
+        }
+
+        if (threads > 0) {
+            long start = System.currentTimeMillis();
+            long count = countParallel(n_in, num_sets_in, degree_in, threads);
+            System.out.println("n:" + n_in + " sets:" + num_sets_in + " degree:" + degree_in);
+            System.out.println("It was " + count + " solutions.\n");
+            System.out.println("Search time: " + (System.currentTimeMillis() - start) + "ms");
+            return;
+        }
+
+        long modelStart = System.currentTimeMillis();
         SetPartition pp = new SetPartition();
-        pp.define(n_in);
+        pp.num_sets = num_sets_in;
+        pp.degree = degree_in;
+        if (lean) {
+            pp.defineLean(n_in);
+        } else {
+            pp.define(n_in);
+        }
+        System.out.println("Model time: " + (System.currentTimeMillis() - modelStart) + "ms");
+
+        DataOutputStream sink = null;
+        if (output.equals("count")) {
+            pp.print = false;
+        } else if (!output.equals("print")) {
+            try {
+                sink = new DataOutputStream(new BufferedOutputStream(
+                                              new FileOutputStream(output), 1 << 16));
+                sink.writeInt(n_in);
+                sink.writeInt(num_sets_in);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            pp.sink = sink;
+        }
+
+        long start = System.currentTimeMillis();
         pp.solve();
+        if (sink != null) {
+            try {
+                sink.close();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        System.out.println("Search time: " + (System.currentTimeMillis() - start) + "ms");
 
 
     }
@@ -75,7 +158,7 @@ public class SetPartition {
 
         System.out.println("n:" + n);
 
-        Var[][] a = new Var[num_sets][n];
+        a = new Var[num_sets][n];
         a_flatten = new Var[num_sets*n];
         for(int i = 0; i < num_sets; i++) {
             for(int j = 0; j < n; j++) {
@@ -148,7 +231,206 @@ public class SetPartition {
     }
     
     
-    public void solve() {
+    // Same model as define, without the helper variables: define
+    // registers s1, s2, sq1, sq2, sqsq1, sqsq2 (6n variables per pair
+    // of sets) with p.variable and then replaces them by expressions,
+    // leaving the registered ones unused. Here each set gets its share
+    // of the cardinality and the power sums 1..degree of {1..n} posted
+    // directly as a scalar product over its row of a.
+    //
+    // It also handles num_sets > 2. The sets are interchangeable, so
+    // they are ordered by their smallest element: element k may only go
+    // to set i if set i-1 already holds a smaller element.
+    public void defineLean(int n_in) {
+
+        n = n_in;
+
+        System.out.println("n:" + n);
+
+        a = new Var[num_sets][n];
+        a_flatten = new Var[num_sets*n];
+        for(int i = 0; i < num_sets; i++) {
+            for(int j = 0; j < n; j++) {
+                a[i][j] = p.variable("a-"+i+"-"+j, 0, 1);
+                a_flatten[i*n+j] = a[i][j];
+            }
+        }
+
+        // partition: every element in exactly one set
+        Var[] column = new Var[num_sets];
+        for(int k = 0; k < n; k++) {
+            for(int i = 0; i < num_sets; i++) {
+                column[i] = a[i][k];
+            }
+            p.post(column, "=", 1);
+        }
+
+        // same cardinality (d = 0) and same power sums (d = 1..degree)
+        for(int d = 0; d <= degree; d++) {
+            int[] weights = new int[n];
+            long total = 0;
+            for(int k = 0; k < n; k++) {
+                long w = 1;
+                for(int e = 0; e < d; e++) {
+                    w *= k+1;
+                }
+                if (w > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("(" + (k+1) + ")^" + d +
+                                                       " does not fit in an int weight");
+                }
+                weights[k] = (int)w;
+                total += w;
+            }
+            if (total % num_sets != 0) {
+                feasible = false;
+            }
+            long share = total / num_sets;
+            if (share > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("sum of (1.." + n + ")^" + d + " / " +
+                                                   num_sets + " does not fit in an int");
+            }
+            for(int i = 0; i < num_sets; i++) {
+                p.post(weights, a[i], "=", (int)share);
+            }
+        }
+
+        // symmetry breaking: 1 is in set 0, and set i (i >= 2) takes
+        // element k only if set i-1 holds one of 1..k. For set 1 that
+        // already follows from a[0][0] = 1.
+        p.post(a[0][0],"=", 1);
+        for(int i = 1; i < num_sets; i++) {
+            p.post(a[i][0], "=", 0);
+        }
+        for(int i = 2; i < num_sets; i++) {
+            for(int k = 1; k < n; k++) {
+                p.post(a[i][k], "<=", p.sum(Arrays.copyOfRange(a[i-1], 0, k)));
+            }
+        }
+
+    }
+
+
+    // Counts the solutions of either model without printing them.
+    public long count() {
+        if (!feasible) {
+            return 0;
+        }
+        long num_sols = 0;
+        SolutionIterator iter = solutions();
+        while (iter.hasNext()) {
+            iter.next();
+            num_sols++;
+        }
+        return num_sols;
+    }
+
+
+    // Counts the solutions of the lean model on a thread pool. The
+    // search is split on the sets of the first few elements: every
+    // canonical placement (set i used only after set i-1) of them is a
+    // separate Problem, solved by its own thread.
+    public static long countParallel(final int n_in, final int num_sets_in,
+                                     final int degree_in, int threads) {
+
+        // enough prefixes to keep all threads busy
+        int depth = 1;
+        while (depth < n_in && countPrefixes(depth, num_sets_in) < 4 * threads) {
+            depth++;
+        }
+
+        List<int[]> prefixes = new ArrayList<int[]>();
+        placePrefix(new int[depth], 0, -1, num_sets_in, prefixes);
+
+        ExecutorService pool =
+            Executors.newFixedThreadPool(threads);
+        List<Future<Long>> results =
+            new ArrayList<Future<Long>>();
+        for(final int[] prefix : prefixes) {
+            results.add(pool.submit(new Callable<Long>() {
+                public Long call() {
+                    SetPartition sub = new SetPartition();
+                    sub.num_sets = num_sets_in;
+                    sub.degree = degree_in;
+                    sub.defineLean(n_in);
+                    for(int k = 0; k < prefix.length; k++) {
+                        sub.p.post(sub.a[prefix[k]][k], "=", 1);
+                    }
+                    return sub.count();
+                }
+            }));
+        }
+
+        long total = 0;
+        try {
+            for(Future<Long> r : results) {
+                total += r.get();
+            }
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        } finally {
+            pool.shutdown();
+        }
+        return total;
+    }
+
+    // Canonical placements of the first prefix.length elements: each
+    // element goes to a set already used or to the next unused one.
+    static void placePrefix(int[] prefix, int k, int maxSet, int num_sets_in,
+                            List<int[]> out) {
+        if (k == prefix.length) {
+            out.add(prefix.clone());
+            return;
+        }
+        for(int i = 0; i <= Math.min(maxSet + 1, num_sets_in - 1); i++) {
+            prefix[k] = i;
+            placePrefix(prefix, k + 1, Math.max(maxSet, i), num_sets_in, out);
+        }
+    }
+
+    static int countPrefixes(int depth, int num_sets_in) {
+        List<int[]> out = new ArrayList<int[]>();
+        placePrefix(new int[depth], 0, -1, num_sets_in, out);
+        return out.size();
+    }
+
+
+    // O(num_sets * n * degree) check of a solution, value[i][j] = 1 if
+    // j+1 is in set i: every element in exactly one set and all sets
+    // with the same cardinality and power sums up to degree (2 for the
+    // original model).
+    boolean check(int[][] value) {
+        for(int j = 0; j < n; j++) {
+            int sets = 0;
+            for(int i = 0; i < num_sets; i++) {
+                sets += value[i][j];
+            }
+            if (sets != 1) {
+                return false;
+            }
+        }
+        for(int d = 0; d <= degree; d++) {
+            long first = 0;
+            for(int i = 0; i < num_sets; i++) {
+                long sum = 0;
+                for(int j = 0; j < n; j++) {
+                    if (value[i][j] == 1) {
+                        sum += Math.round(Math.pow(j+1, d));
+                    }
+                }
+                if (i == 0) {
+                    first = sum;
+                } else if (sum != first) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+
+    // The search of solve() and count(), as an iterator over the
+    // solutions.
+    public SolutionIterator solutions() {
         //
         // search
         //
@@ -190,30 +472,89 @@ public class SetPartition {
         // solver.addSearchStrategy(new StrategyLogVariables(solver)); 
         // solver.traceExecution(true);
 
+        return solver.solutionIterator();
+    }
+
+
+    public void solve() {
+        Solver solver = p.getSolver();
+
         //
         // solve
         //        
-        int num_sols = 0;
-        SolutionIterator iter = solver.solutionIterator();
-        while (iter.hasNext()) {
-            num_sols++;
-            Solution s = iter.next();
-            // s.log();
+        // names are built once, not per solution
+        String[][] names = new String[num_sets][n];
+        for(int i = 0; i < num_sets; i++) {
+            for(int j = 0; j < n; j++) {
+                names[i][j] = "a-"+i+"-"+j;
+            }
+        }
+        int[][] value = new int[num_sets][n];
+        int words = (n + 63) / 64;
+        long[] mask = new long[words];
+        StringBuilder line = new StringBuilder();
+
+        long start = System.nanoTime();
+        long num_sols = 0;
+        SolutionIterator iter = solutions();
+        try {
+            while (iter.hasNext()) {
+                num_sols++;
+                Solution s = iter.next();
+                // s.log();
+
+                if (sink != null || print) {
+                    for(int i = 0; i < num_sets; i++) {
+                        for(int j = 0; j < n; j++) {
+                            value[i][j] = s.getValue(names[i][j]);
+                        }
+                    }
+                    if (!check(value)) {
+                        throw new IllegalStateException("invalid solution #" + num_sols);
+                    }
+                }
 
-            for(int i = 0; i < num_sets; i++) {
-                int sum = 0;
-                for(int j = 0; j < n; j++) {
-                    if (s.getValue("a-"+i+"-"+j) == 1) {
-                        System.out.format("%2s ", j+1);
-                        sum += j+1;
+                if (sink != null) {
+                    // the last set is implied by the others
+                    for(int i = 0; i < num_sets - 1; i++) {
+                        Arrays.fill(mask, 0);
+                        for(int j = 0; j < n; j++) {
+                            if (value[i][j] == 1) {
+                                mask[j >> 6] |= 1L << (j & 63);
+                            }
+                        }
+                        for(int w = 0; w < words; w++) {
+                            sink.writeLong(mask[w]);
+                        }
+                    }
+                } else if (print) {
+                    for(int i = 0; i < num_sets; i++) {
+                        int sum = 0;
+                        line.setLength(0);
+                        for(int j = 0; j < n; j++) {
+                            if (value[i][j] == 1) {
+                                if (j+1 < 10) {
+                                    line.append(' ');
+                                }
+                                line.append(j+1).append(' ');
+                                sum += j+1;
+                            }
+                        }
+                        line.append(" = ").append(sum);
+                        System.out.println(line);
                     }
+                    System.out.println();
                 }
-                System.out.print(" = " + sum);
-                System.out.println();
             }
-            System.out.println();
+            if (sink != null) {
+                sink.flush();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
         }
+        double seconds = (System.nanoTime() - start) / 1e9;
         System.out.println("It was " + num_sols + " solutions.\n");
+        System.out.format("Solutions per second: %.1f%n%n", num_sols / Math.max(seconds, 1e-9));
 
         solver.logStats();
     }
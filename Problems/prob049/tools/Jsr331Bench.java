@@ -0,0 +1,208 @@
+package org.jcp.jsr331.hakan;
+
+/**
+ *
+ * Runs the JSR-331 models on several JSR-331 implementations in one
+ * JVM and compares them.
+ *
+ * ProblemFactory.newProblem creates the javax.constraints.impl.Problem
+ * of whichever implementation is on the classpath. Every
+ * implementation ships a class of that name, so they cannot share a
+ * classpath. Here each implementation gets its own class loader,
+ * holding its jars (JSR-331 API jar included) and the compiled models,
+ * so the implementation is chosen at run time.
+ *
+ * Every model's main is called with the given arguments and its output
+ * is captured. Reported per implementation and model:
+ *   time       wall time of main
+ *   solutions  from "It was N solutions"
+ *   fails      the first number on a line of the statistics that
+ *              mentions "fail" (the format of logStats differs between
+ *              implementations; -1 if there is none)
+ *   peak_kb    the sum of each heap pool's peak use during the run,
+ *              an upper bound on the heap's peak
+ *   alloc_kb   heap bytes allocated by the running thread
+ *              (com.sun.management.ThreadMXBean; -1 if unsupported),
+ *              per solution as well: the models' Solution objects and
+ *              "x-"+i keys, but also model building and the captured
+ *              output, as the whole main is measured
+ *   gcs        collections and their total time, over all collectors
+ *
+ * Usage:
+ *   Jsr331Bench models_dir impl=jar1:jar2... [impl=...] -- model [args] [-- model [args]]
+ * e.g.
+ *   Jsr331Bench classes constrainer=jsr331.jar:constrainer.jar \
+ *     choco=jsr331.jar:choco.jar -- org.jcp.jsr331.hakan.AllInterval 10 \
+ *     -- org.jcp.jsr331.hakan.SetPartition 16 1 2 2 0 count
+ *
+ */
+
+// Licenced under CC-BY-4.0 : http://creativecommons.org/licenses/by/4.0/
+
+import java.io.*;
+import java.lang.management.*;
+import java.lang.reflect.*;
+import java.net.*;
+import java.util.*;
+import java.util.regex.*;
+
+public class Jsr331Bench {
+
+    static final Pattern SOLUTIONS = Pattern.compile("It was (\\d+) solutions");
+    static final Pattern FAILS = Pattern.compile("(?i)fail\\D*(\\d+)");
+
+    // Bytes allocated so far by the current thread, or -1 when the JVM
+    // does not count them.
+    static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean t = (com.sun.management.ThreadMXBean)threads;
+            if (t.isThreadAllocatedMemorySupported() && t.isThreadAllocatedMemoryEnabled()) {
+                return t.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+
+    // {collections, collection time in ms} over all collectors.
+    static long[] gc() {
+        long[] gc = new long[2];
+        for(GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gc[0] += Math.max(0, collector.getCollectionCount());
+            gc[1] += Math.max(0, collector.getCollectionTime());
+        }
+        return gc;
+    }
+
+    static long peakHeap() {
+        long peak = 0;
+        for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    static void resetPeakHeap() {
+        for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    static String run(URL[] classpath, String model, String[] args) throws Exception {
+        // no parent but the bootstrap loader: javax.constraints must
+        // come from this implementation only
+        URLClassLoader loader = new URLClassLoader(classpath, null);
+        Method main;
+        try {
+            main = loader.loadClass(model).getMethod("main", String[].class);
+        } catch (ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+            loader.close();
+            return "error: " + e;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream out = System.out;
+        System.gc();
+        resetPeakHeap();
+        long[] gc = gc();
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        System.setOut(new PrintStream(buffer, true));
+        try {
+            main.invoke(null, (Object)args);
+        } catch (InvocationTargetException e) {
+            System.setOut(out);
+            return "error: " + e.getCause();
+        } finally {
+            System.setOut(out);
+            loader.close();
+        }
+        long time = (System.nanoTime() - start) / 1000000;
+        long after = allocatedBytes();
+        long[] gcAfter = gc();
+        long peak = peakHeap() / 1024;
+        allocated = allocated < 0 ? -1 : after - allocated;
+
+        String text = buffer.toString();
+        long solutions = -1;
+        Matcher m = SOLUTIONS.matcher(text);
+        if (m.find()) {
+            solutions = Long.parseLong(m.group(1));
+        }
+        long fails = -1;
+        // only look after the solution count, where the statistics are
+        m = FAILS.matcher(text.substring(Math.max(0, text.lastIndexOf("It was"))));
+        if (m.find()) {
+            fails = Long.parseLong(m.group(1));
+        }
+        double perSolution = allocated < 0 || solutions < 1 ? -1 : (double)allocated / solutions;
+        return String.format("%10d %12d %12d %10d %12d %12.1f %6d %8d", time, solutions, fails, peak,
+                             allocated < 0 ? -1 : allocated / 1024, perSolution,
+                             gcAfter[0] - gc[0], gcAfter[1] - gc[1]);
+    }
+
+    static void usage(String problem) {
+        System.out.println(problem);
+        System.out.println("Usage: Jsr331Bench models_dir impl=jar:jar... [impl=...] -- model [args] [-- model [args]]");
+        System.exit(1);
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        if (args.length < 4) {
+            usage("Too few arguments");
+        }
+
+        URL models = new File(args[0]).toURI().toURL();
+
+        Map<String, URL[]> impls = new LinkedHashMap<String, URL[]>();
+        int i = 1;
+        for(; i < args.length && !args[i].equals("--"); i++) {
+            String[] nameJars = args[i].split("=", 2);
+            if (nameJars.length < 2 || nameJars[0].isEmpty() || nameJars[1].isEmpty()) {
+                usage("Not an impl=jar:jar...: " + args[i]);
+            }
+            String[] jars = nameJars[1].split(File.pathSeparator);
+            URL[] urls = new URL[jars.length + 1];
+            urls[0] = models;
+            for(int j = 0; j < jars.length; j++) {
+                urls[j + 1] = new File(jars[j]).toURI().toURL();
+            }
+            impls.put(nameJars[0], urls);
+        }
+
+        List<String[]> runs = new ArrayList<String[]>();
+        while (i < args.length) {
+            int end = i + 1;
+            while (end < args.length && !args[end].equals("--")) {
+                end++;
+            }
+            if (end == i + 1) {
+                usage("No model after -- (argument " + (i + 1) + ")");
+            }
+            runs.add(Arrays.copyOfRange(args, i + 1, end));
+            i = end;
+        }
+        if (impls.isEmpty() || runs.isEmpty()) {
+            usage("Give at least one impl=... and one -- model");
+        }
+
+        System.out.format("%-14s %-36s %10s %12s %12s %10s %12s %12s %6s %8s%n",
+                          "impl", "model", "time(ms)", "solutions", "fails", "peak_kb",
+                          "alloc_kb", "B/solution", "gcs", "gc(ms)");
+        for(String[] run : runs) {
+            String model = run[0];
+            String[] modelArgs = Arrays.copyOfRange(run, 1, run.length);
+            for(Map.Entry<String, URL[]> impl : impls.entrySet()) {
+                String result = run(impl.getValue(), model, modelArgs);
+                System.out.format("%-14s %-36s %s%n", impl.getKey(),
+                                  model + " " + String.join(" ", modelArgs), result);
+            }
+        }
+    }
+
+}
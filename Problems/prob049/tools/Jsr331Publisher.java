@@ -0,0 +1,87 @@
+package org.jcp.jsr331.hakan;
+
+/**
+ *
+ * The solutions of the JSR-331 SetPartition model as a
+ * Flow.Publisher: a SolutionPublisher (tools/) over the model's
+ * SolutionIterator, the counterpart of NQueensPublisher for the
+ * OR-tools models.
+ *
+ * Every subscriber gets its own Problem, whose iterator is only
+ * advanced when the publisher asks for the next solution. Each
+ * solution is the set of each element 1..n, checked with the model's
+ * check before it is sent. AllInterval (prob007) is published by
+ * SolutionPublisher itself, through its Definition, on any backend.
+ *
+ * Usage: Jsr331Publisher [n] [sets] [degree] [batch] [delay_ms]
+ * runs a subscriber that requests batch solutions at a time and sleeps
+ * delay_ms per solution.
+ *
+ */
+
+// Licenced under CC-BY-4.0 : http://creativecommons.org/licenses/by/4.0/
+
+import javax.constraints.*;
+
+import java.util.*;
+
+import org.csplib.tools.Cursor;
+import org.csplib.tools.SolutionPublisher;
+
+public class Jsr331Publisher extends SolutionPublisher {
+
+    Jsr331Publisher(int n, int num_sets, int degree) {
+        super("Jsr331Publisher", () -> search(n, num_sets, degree));
+    }
+
+    static Cursor search(int n, int num_sets, int degree) {
+        final SetPartition setPartition = new SetPartition();
+        setPartition.num_sets = num_sets;
+        setPartition.degree = degree;
+        if (num_sets == 2 && degree == 2) {
+            setPartition.define(n);
+        } else {
+            setPartition.defineLean(n);
+        }
+        final SolutionIterator iter = setPartition.solutions();
+        final int[][] value = new int[num_sets][n];
+        final int[] sol = new int[n];
+        return new Cursor() {
+            public boolean next() {
+                if (!setPartition.feasible || !iter.hasNext()) {
+                    return false;
+                }
+                Solution s = iter.next();
+                for(int i = 0; i < num_sets; i++) {
+                    for(int j = 0; j < n; j++) {
+                        value[i][j] = s.getValue("a-"+i+"-"+j);
+                        if (value[i][j] == 1) {
+                            sol[j] = i;
+                        }
+                    }
+                }
+                if (!setPartition.check(value)) {
+                    throw new IllegalStateException("invalid solution: " + Arrays.toString(sol));
+                }
+                return true;
+            }
+
+            public int[] values() {
+                return sol;
+            }
+
+            public void close() {
+            }
+        };
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int num_sets = args.length > 1 ? Integer.parseInt(args[1]) : 2;
+        int degree = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        int batch = args.length > 3 ? Integer.parseInt(args[3]) : 16;
+        long delay = args.length > 4 ? Long.parseLong(args[4]) : 0;
+
+        consume(new Jsr331Publisher(n, num_sets, degree), batch, delay);
+    }
+}
@@ -0,0 +1,108 @@
+package org.jcp.jsr331.hakan;
+
+/**
+ *
+ * Footprint report for a JSR-331 Problem: how many variables are
+ * registered with the problem, how many of them are decision variables
+ * (labelled by the search), and how many constraints are posted.
+ *
+ * The other registered variables are auxiliary. Some are needed, but
+ * a model that registers a variable with p.variable(...) and then
+ * overwrites the Java reference with an expression leaves a variable
+ * in the store that nothing uses; this shows up as a large "other"
+ * count (compare SetPartition.define with SetPartition.defineLean).
+ * The names of the first few are listed to find the culprit.
+ *
+ * JSR-331 has no way to get from a Constraint to the variables it is
+ * on, so the variables reachable from the posted constraints cannot be
+ * counted for an arbitrary Problem. The report counts the decision
+ * variables instead: they are reachable by construction, and every
+ * dead variable is among the others.
+ *
+ * Usage: ModelFootprint.report(p, decisionVars) after the model is
+ * defined, or
+ *   ModelFootprint [from] [to] [step]
+ * which reports SetPartition.define against SetPartition.defineLean
+ * for n = from, from+step, .. to (default 16..32 by 4): the footprint
+ * of both, and the model and count times.
+ *
+ */
+
+// Licenced under CC-BY-4.0 : http://creativecommons.org/licenses/by/4.0/
+
+import javax.constraints.*;
+
+import java.util.*;
+
+public class ModelFootprint {
+
+    static final int MAX_NAMES = 10;
+
+    public static void report(Problem p, Var[] decisionVars) {
+
+        Set<Var> decision = new HashSet<Var>(Arrays.asList(decisionVars));
+
+        Var[] vars = p.getVars();
+        Constraint[] constraints = p.getConstraints();
+        int registered = vars == null ? 0 : vars.length;
+        int numDecision = 0;
+        List<String> others = new ArrayList<String>();
+        for(int i = 0; i < registered; i++) {
+            if (decision.contains(vars[i])) {
+                numDecision++;
+            } else if (others.size() < MAX_NAMES) {
+                others.add(vars[i].getName());
+            }
+        }
+
+        System.out.println("Model footprint of " + p.getName() + ":");
+        System.out.println("  registered variables: " + registered);
+        System.out.println("  decision variables  : " + numDecision);
+        System.out.println("  other variables     : " + (registered - numDecision) +
+                           (others.isEmpty() ? "" : " e.g. " + others));
+        System.out.println("  constraints         : " +
+                           (constraints == null ? 0 : constraints.length));
+        System.out.println();
+    }
+
+    public static void main(String[] args) {
+
+        int from = args.length > 0 ? Integer.parseInt(args[0]) : 16;
+        int to = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+        int step = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+
+        List<String> rows = new ArrayList<String>();
+        for(int n = from; n <= to; n += Math.max(1, step)) {
+            for(int lean = 0; lean <= 1; lean++) {
+                long start = System.currentTimeMillis();
+                SetPartition pp = new SetPartition();
+                if (lean == 0) {
+                    pp.define(n);
+                } else {
+                    pp.defineLean(n);
+                }
+                long modelTime = System.currentTimeMillis() - start;
+                report(pp.p, pp.a_flatten);
+
+                Var[] vars = pp.p.getVars();
+                Constraint[] constraints = pp.p.getConstraints();
+                start = System.currentTimeMillis();
+                long solutions = pp.count();
+                long countTime = System.currentTimeMillis() - start;
+                rows.add(String.format("%4d %-6s %10d %12d %10d %10d %10d",
+                                       n, lean == 0 ? "define" : "lean",
+                                       vars == null ? 0 : vars.length,
+                                       constraints == null ? 0 : constraints.length,
+                                       modelTime, countTime, solutions));
+            }
+        }
+
+        System.out.format("%4s %-6s %10s %12s %10s %10s %10s%n",
+                          "n", "model", "variables", "constraints",
+                          "model_ms", "count_ms", "solutions");
+        for(String row : rows) {
+            System.out.println(row);
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package org.jcp.jsr331.hakan;
+
+/**
+ *
+ * JMH benchmark of the JSR-331 set partition models, with model
+ * construction and search measured apart:
+ *   build    a new SetPartition (its Problem) and define or defineLean
+ *   search   count(), all solutions, on a model defined before the
+ *            timer starts (a new one per invocation)
+ * lean picks defineLean. The models print "n:" when they are defined,
+ * which JMH shows with the benchmark's output.
+ * org.csplib.tools.Benchmarks in tools/ runs it and writes the results
+ * to prob049/results/benchmark.json.
+ *
+ */
+
+// Licenced under CC-BY-4.0 : http://creativecommons.org/licenses/by/4.0/
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SetPartitionBenchmark {
+
+    @Param({"8", "12", "16"})
+    public int n;
+
+    @Param({"false", "true"})
+    public boolean lean;
+
+    SetPartition model() {
+        SetPartition pp = new SetPartition();
+        if (lean) {
+            pp.defineLean(n);
+        } else {
+            pp.define(n);
+        }
+        return pp;
+    }
+
+    @State(Scope.Thread)
+    public static class Defined {
+        SetPartition pp;
+
+        @Setup(Level.Invocation)
+        public void define(SetPartitionBenchmark b) {
+            pp = b.model();
+        }
+    }
+
+    @Benchmark
+    public SetPartition build() {
+        return model();
+    }
+
+    @Benchmark
+    public long search(Defined defined) {
+        return defined.pp.count();
+    }
+}
@@ -0,0 +1,219 @@
+package org.jcp.jsr331.hakan;
+
+/**
+ *
+ * Counts the solutions of the set partition problem (see SetPartition)
+ * without a CP solver, by meet in the middle:
+ *
+ *   {1..n} is split into a low half L = {1..n/2} and a high half H.
+ *   A solution picks A = A_L u A_H with |A| = n/2, sum(A) = S/2 and
+ *   sum_squares(A) = Q/2 (S and Q the sum and sum of squares of 1..n).
+ *   For each half, all (cardinality, sum, sum of squares) signatures of
+ *   its subsets are counted in a primitive open-addressing hash map,
+ *   built element by element and pruned at the targets. Then every
+ *   signature of H is joined with the complementary signature of L.
+ *
+ * A and its complement are the same partition, and SetPartition counts
+ * each partition once (1 is in the first set), so the number of subsets
+ * A is halved.
+ *
+ * Usage: SetPartitionCounter [n] or SetPartitionCounter from to
+ *        SetPartitionCounter check from [to] [lean]
+ * check counts with SetPartition as well (define, or defineLean with
+ * lean = 1) and compares, as an oracle for the CP model.
+ *
+ */
+
+// Licenced under CC-BY-4.0 : http://creativecommons.org/licenses/by/4.0/
+
+public class SetPartitionCounter {
+
+    /**
+     *
+     * Open-addressing map from a packed signature (long, >= 0) to a
+     * count, with linear probing.
+     *
+     */
+    static class SignatureMap {
+        long[] keys;
+        long[] counts;
+        int size;
+        int mask;
+
+        SignatureMap(int capacity) {
+            int cap = Integer.highestOneBit(Math.max(16, capacity) * 2 - 1);
+            keys = new long[cap];
+            counts = new long[cap];
+            java.util.Arrays.fill(keys, -1);
+            mask = cap - 1;
+        }
+
+        static int hash(long key) {
+            key *= 0x9E3779B97F4A7C15L;
+            return (int)(key ^ (key >>> 32));
+        }
+
+        void add(long key, long count) {
+            if (2 * (size + 1) > keys.length) {
+                grow();
+            }
+            int i = hash(key) & mask;
+            while (keys[i] != -1) {
+                if (keys[i] == key) {
+                    counts[i] += count;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            counts[i] = count;
+            size++;
+        }
+
+        long get(long key) {
+            int i = hash(key) & mask;
+            while (keys[i] != -1) {
+                if (keys[i] == key) {
+                    return counts[i];
+                }
+                i = (i + 1) & mask;
+            }
+            return 0;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            long[] oldCounts = counts;
+            keys = new long[oldKeys.length * 2];
+            counts = new long[oldKeys.length * 2];
+            java.util.Arrays.fill(keys, -1);
+            mask = keys.length - 1;
+            size = 0;
+            for(int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != -1) {
+                    add(oldKeys[i], oldCounts[i]);
+                }
+            }
+        }
+    }
+
+    final int n;
+    final long card;   // target cardinality of A
+    final long sum;    // target sum of A
+    final long sumsq;  // target sum of squares of A
+
+    SetPartitionCounter(int n) {
+        this.n = n;
+        this.card = n / 2;
+        this.sum = (long)n * (n + 1) / 4;
+        this.sumsq = (long)n * (n + 1) * (2 * n + 1) / 12;
+    }
+
+    long pack(long c, long s, long q) {
+        return (c * (sum + 1) + s) * (sumsq + 1) + q;
+    }
+
+    /**
+     *
+     * Signatures of all subsets of {from..to} that do not exceed the
+     * targets.
+     *
+     */
+    SignatureMap signatures(int from, int to) {
+        SignatureMap map = new SignatureMap(16);
+        map.add(0, 1);
+        for(int e = from; e <= to; e++) {
+            SignatureMap next = new SignatureMap(map.size * 2);
+            long e2 = (long)e * e;
+            for(int i = 0; i < map.keys.length; i++) {
+                long key = map.keys[i];
+                if (key == -1) {
+                    continue;
+                }
+                long count = map.counts[i];
+                next.add(key, count);
+                long q = key % (sumsq + 1);
+                long s = (key / (sumsq + 1)) % (sum + 1);
+                long c = key / (sumsq + 1) / (sum + 1);
+                if (c + 1 <= card && s + e <= sum && q + e2 <= sumsq) {
+                    next.add(pack(c + 1, s + e, q + e2), count);
+                }
+            }
+            map = next;
+        }
+        return map;
+    }
+
+    long count() {
+        if (n < 2 || n % 2 != 0
+            || ((long)n * (n + 1) / 2) % 2 != 0
+            || ((long)n * (n + 1) * (2 * n + 1) / 6) % 2 != 0) {
+            return 0;
+        }
+        SignatureMap low = signatures(1, n / 2);
+        SignatureMap high = signatures(n / 2 + 1, n);
+
+        long total = 0;
+        for(int i = 0; i < high.keys.length; i++) {
+            long key = high.keys[i];
+            if (key == -1) {
+                continue;
+            }
+            long q = key % (sumsq + 1);
+            long s = (key / (sumsq + 1)) % (sum + 1);
+            long c = key / (sumsq + 1) / (sum + 1);
+            total += high.counts[i] * low.get(pack(card - c, sum - s, sumsq - q));
+        }
+        return total / 2;
+    }
+
+    public static void main(String[] args) {
+
+        boolean check = args.length > 0 && args[0].equals("check");
+        int first = check ? 1 : 0;
+        int from = 16;
+        int to = 16;
+        boolean lean = false;
+
+        if (args.length > first) {
+            from = to = Integer.parseInt(args[first]);
+        }
+
+        if (args.length > first + 1) {
+            to = Integer.parseInt(args[first + 1]);
+        }
+
+        if (check && args.length > 3) {
+            lean = Integer.parseInt(args[3]) != 0;
+        }
+
+        boolean ok = true;
+        for(int n = from; n <= to; n++) {
+            long start = System.currentTimeMillis();
+            long count = new SetPartitionCounter(n).count();
+            long time = System.currentTimeMillis() - start;
+            if (!check) {
+                System.out.println("n: " + n + "  solutions: " + count +
+                                   "  time: " + time + "ms");
+                continue;
+            }
+            SetPartition pp = new SetPartition();
+            if (lean) {
+                pp.defineLean(n);
+            } else {
+                pp.define(n);
+            }
+            start = System.currentTimeMillis();
+            long cp = pp.count();
+            long cpTime = System.currentTimeMillis() - start;
+            System.out.println("n: " + n + "  solutions: " + count + " (" + time + "ms)" +
+                               "  SetPartition: " + cp + " (" + cpTime + "ms)  " +
+                               (cp == count ? "ok" : "MISMATCH"));
+            ok &= cp == count;
+        }
+        if (!ok) {
+            System.exit(1);
+        }
+    }
+
+}
@@ -30,15 +30,10 @@ public class NQueens2 {
 
   /**
    *
-   * Solves the N Queens problem.
-   * See http://www.hakank.org/google_or_tools/nqueens2.py
+   * Posts the variables and constraints on solver and returns q.
    *
    */
-  private static void solve(int n, int num, int print) {
-
-    Solver solver = new Solver("NQueens");
-
-    System.out.println("n: " + n);
+  static IntVar[] model(Solver solver, int n) {
 
     //
     // variables
@@ -59,6 +54,45 @@ public class NQueens2 {
     solver.addConstraint(solver.makeAllDifferent(q1, true));
     solver.addConstraint(solver.makeAllDifferent(q2, true));
 
+    return q;
+  }
+
+  /**
+   *
+   * O(n) check that no two queens of sol attack each other.
+   *
+   */
+  private static boolean check(int[] sol) {
+    int n = sol.length;
+    boolean[] col = new boolean[n];
+    boolean[] d1 = new boolean[2 * n];
+    boolean[] d2 = new boolean[2 * n];
+    for(int i = 0; i < n; i++) {
+      int c = sol[i];
+      if (c < 0 || c >= n || col[c] || d1[i + c] || d2[i - c + n]) {
+        return false;
+      }
+      col[c] = d1[i + c] = d2[i - c + n] = true;
+    }
+    return true;
+  }
+
+  /**
+   *
+   * Solves the N Queens problem.
+   * See http://www.hakank.org/google_or_tools/nqueens2.py
+   *
+   */
+  static long solve(int n, int num, int print) {
+
+    Solver solver = new Solver("NQueens");
+
+    System.out.println("n: " + n);
+
+    long start = System.currentTimeMillis();
+    IntVar[] q = model(solver, n);
+    System.out.println("Model time: " + (System.currentTimeMillis() - start) + "ms");
+
     //
     // Solve
     //
@@ -67,12 +101,20 @@ public class NQueens2 {
                                           solver.ASSIGN_CENTER_VALUE);
     solver.newSearch(db);
     int c = 0;
+    int[] sol = new int[n];
+    StringBuilder line = new StringBuilder();
     while (solver.nextSolution()) {
+      // one value() call per queen, formatted on the Java side
+      extract(q, sol);
+      if (!check(sol)) {
+        throw new IllegalStateException("invalid solution: " + Arrays.toString(sol));
+      }
       if (print != 0) {
+        line.setLength(0);
         for(int i = 0; i < n; i++) {
-          System.out.print(q[i].value() + " ");
+          line.append(sol[i]).append(' ');
         }
-        System.out.println();
+        System.out.println(line);
       }
       c++;
       if (num > 0 && c >= num) {
@@ -87,12 +129,111 @@ public class NQueens2 {
     System.out.println("Failures: " + solver.failures());
     System.out.println("Branches: " + solver.branches());
     System.out.println("Wall time: " + solver.wall_time() + "ms");
+
+    return solver.solutions();
+  }
+
+  /**
+   *
+   * Runs the search of solve() without output and returns
+   * {solutions, failures, branches, wall time in ms}.
+   *
+   */
+  static long[] run(int n, int num) {
+    Solver solver = new Solver("NQueens2");
+    IntVar[] q = model(solver, n);
+    DecisionBuilder db = solver.makePhase(q,
+                                          solver.CHOOSE_MIN_SIZE_LOWEST_MAX,
+                                          solver.ASSIGN_CENTER_VALUE);
+    solver.newSearch(db);
+    int c = 0;
+    while (solver.nextSolution()) {
+      c++;
+      if (num > 0 && c >= num) {
+        break;
+      }
+    }
+    solver.endSearch();
+    return new long[] {solver.solutions(), solver.failures(),
+                       solver.branches(), solver.wall_time()};
+  }
+
+  /**
+   *
+   * Counts all solutions using the left/right mirror symmetry: only
+   * the first queen on the left half of the first row is searched and
+   * each solution is counted twice. For odd n the first queen in the
+   * middle column is searched in a second run with the second queen on
+   * the left half, also counted twice.
+   *
+   */
+  static long countSymmetric(int n) {
+    if (n == 1) {
+      return 1;
+    }
+    long count = 0;
+    for(int part = 0; part < 1 + n % 2; part++) {
+      Solver solver = new Solver("NQueens2");
+      IntVar[] q = model(solver, n);
+      if (part == 0) {
+        solver.addConstraint(solver.makeLess(q[0], n / 2));
+      } else {
+        solver.addConstraint(solver.makeEquality(q[0], n / 2));
+        solver.addConstraint(solver.makeLess(q[1], n / 2));
+      }
+      DecisionBuilder db = solver.makePhase(q,
+                                            solver.CHOOSE_MIN_SIZE_LOWEST_MAX,
+                                            solver.ASSIGN_CENTER_VALUE);
+      solver.newSearch(db);
+      while (solver.nextSolution()) {
+        count += 2;
+      }
+      solver.endSearch();
+    }
+    return count;
+  }
+
+  /**
+   *
+   * Copies the current values of vars into sol, which is reused
+   * between solutions.
+   *
+   */
+  static int[] extract(IntVar[] vars, int[] sol) {
+    for(int i = 0; i < vars.length; i++) {
+      sol[i] = (int)vars[i].value();
+    }
+    return sol;
+  }
+
+  /**
+   *
+   * Checks a complete placement (e.g. from NQueensMinConflicts) with
+   * this model: q is fixed to the hint and the solver only has to
+   * propagate. The model has O(n) constraints, so this also works for
+   * n far beyond what NQueens can build.
+   *
+   */
+  static boolean verify(int[] hint) {
+    int n = hint.length;
+    Solver solver = new Solver("NQueens2Verify");
+    IntVar[] q = model(solver, n);
+
+    for(int i = 0; i < n; i++) {
+      solver.addConstraint(solver.makeEquality(q[i], hint[i]));
+    }
+
+    DecisionBuilder db = solver.makePhase(q,
+                                          solver.CHOOSE_FIRST_UNBOUND,
+                                          solver.ASSIGN_MIN_VALUE);
+    return solver.solve(db);
   }
 
   public static void main(String[] args) throws Exception {
     int n = 8;
     int num = 0;
     int print = 1;
+    int symmetry = 0;
 
     if (args.length > 0) {
       n = Integer.parseInt(args[0]);
@@ -106,7 +247,19 @@ public class NQueens2 {
       print = Integer.parseInt(args[2]);
     }
 
+    if (args.length > 3) {
+      symmetry = Integer.parseInt(args[3]);
+    }
 
-    NQueens2.solve(n, num, print);
+
+    if (symmetry != 0 && num == 0) {
+      long start = System.currentTimeMillis();
+      long count = NQueens2.countSymmetric(n);
+      System.out.println("n: " + n);
+      System.out.println("Solutions: " + count);
+      System.out.println("Wall time: " + (System.currentTimeMillis() - start) + "ms");
+    } else {
+      NQueens2.solve(n, num, print);
+    }
   }
 }
@@ -0,0 +1,254 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ortools.constraintsolver.samples;
+
+import java.io.*;
+import java.lang.management.*;
+import java.util.*;
+
+import com.google.ortools.constraintsolver.DecisionBuilder;
+import com.google.ortools.constraintsolver.IntVar;
+import com.google.ortools.constraintsolver.Solver;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+/**
+ *
+ * Allocation and GC figures for the search loop of NQueens or
+ * NQueens2, and an allocation budget check.
+ *
+ * The model is built before each run is measured. The run, in
+ * measure(), is a copy of the newSearch/nextSolution/endSearch loop of
+ * the models' run(), which reads no values; the copy also reads every
+ * queen's value() into one reused int[] per solution, as their solve()
+ * does, and prints nothing. It is measured on the searching thread:
+ *   allocated   Java heap bytes allocated by this thread
+ *               (com.sun.management.ThreadMXBean), per branch and per
+ *               solution as well
+ *   gc          collections and their total time, over all collectors
+ *   peak heap   the sum of each heap pool's peak use during the run;
+ *               the pools need not peak at the same time, so this is
+ *               an upper bound on the peak of the whole heap
+ * The search itself lives in native memory, which is not counted;
+ * what is counted is the Java side of the loop, the JNI wrappers.
+ *
+ * This covers the OR-tools models only. The JSR-331 models (Solution
+ * objects and "x-"+i keys per solution) are measured by Jsr331Bench in
+ * prob049/tools, and the JaCoP Perfect Square Placement search
+ * (boxed sizes) by its InstanceGenerator bench, with the same
+ * counters; neither has a budget.
+ *
+ * The first run is a warm-up and is not reported. With jfr=file the
+ * measured runs are also recorded with the JDK's "profile" settings,
+ * which include allocation sampling (jdk.ObjectAllocationSample), to
+ * see where the bytes come from: jfr print --events
+ * ObjectAllocationSample file.
+ *
+ * The program exits with status 1 when a run allocates more than the
+ * budget per branch, so it can gate a build: DEFAULT_BUDGET unless
+ * budget=bytes is given, none with budget=none. It also exits with
+ * status 1 when the JVM does not count allocated bytes per thread, as
+ * there is then nothing to check.
+ *
+ * Usage: NQueensAllocation [model] [n] [limit] [runs] [budget=bytes|none] [jfr=file]
+ *
+ */
+public class NQueensAllocation {
+
+  /**
+   *
+   * Bytes per branch. Branching happens in native code, and the loop
+   * allocates no Java objects per branch: nextSolution() returns a
+   * boolean and value() a long. The budget leaves room for one small
+   * object per branch, so a run over it allocates on every branch.
+   *
+   */
+  static final double DEFAULT_BUDGET = 64;
+
+  static {
+    System.loadLibrary("jniconstraintsolver");
+  }
+
+  /**
+   *
+   * Bytes allocated so far by the current thread, or -1 when the JVM
+   * does not count them.
+   *
+   */
+  static long allocatedBytes() {
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    if (threads instanceof com.sun.management.ThreadMXBean) {
+      com.sun.management.ThreadMXBean t = (com.sun.management.ThreadMXBean)threads;
+      if (t.isThreadAllocatedMemorySupported() && t.isThreadAllocatedMemoryEnabled()) {
+        return t.getThreadAllocatedBytes(Thread.currentThread().getId());
+      }
+    }
+    return -1;
+  }
+
+  /**
+   *
+   * {collections, collection time in ms} over all collectors.
+   *
+   */
+  static long[] gc() {
+    long[] gc = new long[2];
+    for(GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+      gc[0] += Math.max(0, collector.getCollectionCount());
+      gc[1] += Math.max(0, collector.getCollectionTime());
+    }
+    return gc;
+  }
+
+  static long peakHeap() {
+    long peak = 0;
+    for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        peak += pool.getPeakUsage().getUsed();
+      }
+    }
+    return peak;
+  }
+
+  static void resetPeakHeap() {
+    for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        pool.resetPeakUsage();
+      }
+    }
+  }
+
+  /**
+   *
+   * Builds the model, then runs and measures the search loop once.
+   * Returns {solutions, failures, branches, wall time in ms, allocated
+   * bytes, collections, collection time in ms, peak heap bytes}.
+   *
+   */
+  static long[] measure(String model, int n, int limit) {
+    Solver solver = new Solver(model);
+    IntVar[] q = model.equals("NQueens")
+      ? NQueens.model(solver, n) : NQueens2.model(solver, n);
+    DecisionBuilder db = solver.makePhase(q,
+                                          solver.CHOOSE_MIN_SIZE_LOWEST_MAX,
+                                          solver.ASSIGN_CENTER_VALUE);
+    int[] sol = new int[n];
+
+    System.gc();
+    resetPeakHeap();
+    long[] gc = gc();
+    long allocated = allocatedBytes();
+
+    solver.newSearch(db);
+    int c = 0;
+    while (solver.nextSolution()) {
+      for(int i = 0; i < n; i++) {
+        sol[i] = (int)q[i].value();
+      }
+      c++;
+      if (limit > 0 && c >= limit) {
+        break;
+      }
+    }
+    solver.endSearch();
+
+    long after = allocatedBytes();
+    long[] gcAfter = gc();
+    return new long[] {solver.solutions(), solver.failures(),
+                       solver.branches(), solver.wall_time(),
+                       allocated < 0 ? -1 : after - allocated,
+                       gcAfter[0] - gc[0], gcAfter[1] - gc[1], peakHeap()};
+  }
+
+  public static void main(String[] args) throws Exception {
+    String model = "NQueens2";
+    int n = 12;
+    int limit = 0;
+    int runs = 3;
+    double budget = DEFAULT_BUDGET;
+    File jfr = null;
+
+    List<String> positional = new ArrayList<String>();
+    for(String arg : args) {
+      if (arg.equals("budget=none")) {
+        budget = -1;
+      } else if (arg.startsWith("budget=")) {
+        budget = Double.parseDouble(arg.substring(7));
+      } else if (arg.startsWith("jfr=")) {
+        jfr = new File(arg.substring(4));
+      } else {
+        positional.add(arg);
+      }
+    }
+    if (positional.size() > 0) {
+      model = positional.get(0);
+    }
+    if (positional.size() > 1) {
+      n = Integer.parseInt(positional.get(1));
+    }
+    if (positional.size() > 2) {
+      limit = Integer.parseInt(positional.get(2));
+    }
+    if (positional.size() > 3) {
+      runs = Integer.parseInt(positional.get(3));
+    }
+    if (!model.equals("NQueens") && !model.equals("NQueens2")) {
+      throw new IllegalArgumentException("unknown model: " + model);
+    }
+    if (allocatedBytes() < 0) {
+      System.err.println("This JVM does not count allocated bytes per thread"
+                         + " (com.sun.management.ThreadMXBean), nothing to measure");
+      System.exit(1);
+    }
+
+    // warm-up, not reported
+    measure(model, n, limit);
+
+    Recording recording = null;
+    if (jfr != null) {
+      recording = new Recording(Configuration.getConfiguration("profile"));
+      recording.start();
+    }
+
+    System.out.format("%4s %10s %12s %10s %14s %12s %12s %6s %8s %10s%n",
+                      "run", "solutions", "branches", "time(ms)", "allocated",
+                      "B/branch", "B/solution", "gcs", "gc(ms)", "peak_kb");
+    boolean over = false;
+    for(int run = 1; run <= runs; run++) {
+      long[] m = measure(model, n, limit);
+      double perBranch = (double)m[4] / Math.max(1, m[2]);
+      double perSolution = (double)m[4] / Math.max(1, m[0]);
+      System.out.format("%4d %10d %12d %10d %14d %12.1f %12.1f %6d %8d %10d%n",
+                        run, m[0], m[2], m[3], m[4], perBranch, perSolution,
+                        m[5], m[6], m[7] / 1024);
+      if (budget >= 0 && perBranch > budget) {
+        over = true;
+      }
+    }
+
+    if (recording != null) {
+      recording.stop();
+      recording.dump(jfr.toPath());
+      recording.close();
+      System.out.println("JFR recording: " + jfr);
+    }
+
+    if (budget >= 0) {
+      System.out.println("Budget: " + budget + " B/branch: " + (over ? "EXCEEDED" : "ok"));
+      if (over) {
+        System.exit(1);
+      }
+    }
+  }
+}
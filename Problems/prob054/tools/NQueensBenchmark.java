@@ -0,0 +1,98 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ortools.constraintsolver.samples;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.ortools.constraintsolver.DecisionBuilder;
+import com.google.ortools.constraintsolver.IntVar;
+import com.google.ortools.constraintsolver.Solver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ *
+ * JMH benchmark of the OR-tools N Queens models, with model
+ * construction and search measured apart:
+ *   build    a new Solver and the model's variables and constraints
+ *   search   all solutions with the models' strategy, on a model built
+ *            before the timer starts (a new one per invocation)
+ * org.csplib.tools.Benchmarks in tools/ runs it and writes the results
+ * to prob054/results/benchmark.json.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NQueensBenchmark {
+
+  static {
+    System.loadLibrary("jniconstraintsolver");
+  }
+
+  @Param({"NQueens", "NQueens2"})
+  public String model;
+
+  @Param({"8", "10", "12"})
+  public int n;
+
+  IntVar[] post(Solver solver) {
+    return model.equals("NQueens") ? NQueens.model(solver, n) : NQueens2.model(solver, n);
+  }
+
+  @State(Scope.Thread)
+  public static class Built {
+    Solver solver;
+    IntVar[] q;
+
+    @Setup(Level.Invocation)
+    public void build(NQueensBenchmark b) {
+      solver = new Solver(b.model);
+      q = b.post(solver);
+    }
+  }
+
+  @Benchmark
+  public IntVar[] build() {
+    return post(new Solver(model));
+  }
+
+  @Benchmark
+  public long search(Built built) {
+    Solver solver = built.solver;
+    DecisionBuilder db = solver.makePhase(built.q,
+                                          solver.CHOOSE_MIN_SIZE_LOWEST_MAX,
+                                          solver.ASSIGN_CENTER_VALUE);
+    solver.newSearch(db);
+    long solutions = 0;
+    while (solver.nextSolution()) {
+      solutions++;
+    }
+    solver.endSearch();
+    return solutions;
+  }
+}
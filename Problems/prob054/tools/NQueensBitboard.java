@@ -0,0 +1,177 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ortools.constraintsolver.samples;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ *
+ * Counts all solutions of the N Queens problem with bitboards, in plain
+ * Java. Meant as a reference for the counts of the OR-tools models.
+ *
+ * Occupied columns and both diagonals are kept as bit masks in longs
+ * (n <= 63). The board is mirrored left/right, so only the first half
+ * of the first row is searched and counted twice; for odd n the middle
+ * column is searched once more, with the second queen restricted to
+ * the left half.
+ * Each first-row placement is one task on a ForkJoinPool.
+ *
+ * Usage:
+ *   NQueensBitboard [n] [threads]
+ *   NQueensBitboard check [max_n]
+ * check compares n = 1..max_n (default 10) with the OEIS A000170
+ * counts and with the full and the symmetry-reduced (countSymmetric)
+ * counts of NQueens and NQueens2 (these need the jniconstraintsolver
+ * library).
+ *
+ */
+public class NQueensBitboard {
+
+  // A000170, n = 0..26
+  static final long[] KNOWN = {
+    1L, 1L, 0L, 0L, 2L, 10L, 4L, 40L, 92L, 352L, 724L, 2680L, 14200L,
+    73712L, 365596L, 2279184L, 14772512L, 95815104L, 666090624L,
+    4968057848L, 39029188884L, 314666222712L, 2691008701644L,
+    24233937684440L, 227514171973736L, 2207893435808352L,
+    22317699616364044L
+  };
+
+  /**
+   *
+   * Number of solutions below a partial board. cols, ld and rd are the
+   * columns attacked in the current row by a column or diagonal.
+   *
+   */
+  static long count(long all, long cols, long ld, long rd) {
+    if (cols == all) {
+      return 1;
+    }
+    long count = 0;
+    long free = all & ~(cols | ld | rd);
+    while (free != 0) {
+      long bit = free & -free;
+      free ^= bit;
+      count += count(all, cols | bit, ((ld | bit) << 1) & all, (rd | bit) >>> 1);
+    }
+    return count;
+  }
+
+  /**
+   *
+   * Counts the solutions with the first queen on column bit0 and the
+   * second queen on one of the columns in second.
+   *
+   */
+  static class Subtree extends RecursiveTask<Long> {
+    private static final long serialVersionUID = 1L;
+
+    final long all;
+    final long bit0;
+    final long second;
+
+    Subtree(long all, long bit0, long second) {
+      this.all = all;
+      this.bit0 = bit0;
+      this.second = second;
+    }
+
+    protected Long compute() {
+      long ld = (bit0 << 1) & all;
+      long rd = bit0 >>> 1;
+      long free = second & ~(bit0 | ld | rd);
+      long count = 0;
+      while (free != 0) {
+        long bit = free & -free;
+        free ^= bit;
+        count += count(all, bit0 | bit, ((ld | bit) << 1) & all, (rd | bit) >>> 1);
+      }
+      return count;
+    }
+  }
+
+  static long count(int n, ForkJoinPool pool) {
+    if (n < 1 || n > 63) {
+      throw new IllegalArgumentException("n must be in 1..63: " + n);
+    }
+    if (n == 1) {
+      return 1;
+    }
+    long all = (1L << n) - 1;
+    long left = (1L << (n / 2)) - 1;
+
+    // every subtree is counted twice: once for itself and once for
+    // its mirror image
+    List<ForkJoinTask<Long>> tasks = new ArrayList<ForkJoinTask<Long>>();
+    for(int c = 0; c < n / 2; c++) {
+      tasks.add(pool.submit(new Subtree(all, 1L << c, all)));
+    }
+    // a solution with the first queen in the middle column has its
+    // mirror image there too; the second queen is never in the middle
+    if (n % 2 == 1) {
+      tasks.add(pool.submit(new Subtree(all, 1L << (n / 2), left)));
+    }
+
+    long count = 0;
+    for(ForkJoinTask<Long> t : tasks) {
+      count += 2 * t.join();
+    }
+    return count;
+  }
+
+  static void check(int maxN, ForkJoinPool pool) {
+    for(int n = 1; n <= maxN; n++) {
+      long count = count(n, pool);
+      long s1 = NQueens.run(n, 0)[0];
+      long s2 = NQueens2.run(n, 0)[0];
+      long m1 = NQueens.countSymmetric(n);
+      long m2 = NQueens2.countSymmetric(n);
+      boolean ok = (n >= KNOWN.length || count == KNOWN[n]) && count == s1 && count == s2
+        && count == m1 && count == m2;
+      System.out.format("n: %2d  bitboard: %d  NQueens: %d/%d  NQueens2: %d/%d  %s%n",
+                        n, count, s1, m1, s2, m2, ok ? "ok" : "MISMATCH");
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    int threads = Runtime.getRuntime().availableProcessors();
+
+    if (args.length > 0 && args[0].equals("check")) {
+      int maxN = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+      check(maxN, new ForkJoinPool(threads));
+      return;
+    }
+
+    int n = 8;
+    if (args.length > 0) {
+      n = Integer.parseInt(args[0]);
+    }
+    if (args.length > 1) {
+      threads = Integer.parseInt(args[1]);
+    }
+
+    ForkJoinPool pool = new ForkJoinPool(threads);
+    long start = System.currentTimeMillis();
+    long count = count(n, pool);
+    long time = System.currentTimeMillis() - start;
+    pool.shutdown();
+
+    System.out.println("n: " + n);
+    System.out.println("Solutions: " + count);
+    if (n < KNOWN.length) {
+      System.out.println("Expected: " + KNOWN[n]);
+    }
+    System.out.println("Threads: " + threads);
+    System.out.println("Wall time: " + time + "ms");
+  }
+}
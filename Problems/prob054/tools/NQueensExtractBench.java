@@ -0,0 +1,116 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ortools.constraintsolver.samples;
+
+import java.io.*;
+
+import com.google.ortools.constraintsolver.DecisionBuilder;
+import com.google.ortools.constraintsolver.IntVar;
+import com.google.ortools.constraintsolver.Solver;
+
+/**
+ *
+ * Microbenchmark for the per-solution cost of reading a solution out of
+ * the OR-tools N Queens model (the NQueens2 formulation).
+ *
+ * Every solution of the same all-solutions search is handled in one of
+ * three ways:
+ *   none    : values are not read at all (search cost only)
+ *   print   : one value() call and one System.out.print per queen,
+ *             as the models used to do
+ *   extract : one value() call per queen into a reused int[], the line
+ *             built in a StringBuilder (NQueens.extract)
+ * Output goes to a discarding stream so that only the Java/JNI side is
+ * measured. The reported overhead is relative to "none".
+ *
+ * Usage: NQueensExtractBench [n] [rounds]
+ *
+ */
+public class NQueensExtractBench {
+
+  static {
+    System.loadLibrary("jniconstraintsolver");
+  }
+
+  static final PrintStream NULL_OUT = new PrintStream(new OutputStream() {
+      public void write(int b) { }
+      public void write(byte[] b, int off, int len) { }
+    });
+
+  static long run(int n, String mode) {
+    Solver solver = new Solver("NQueensExtractBench");
+    IntVar[] q = NQueens2.model(solver, n);
+
+    DecisionBuilder db = solver.makePhase(q,
+                                          solver.CHOOSE_MIN_SIZE_LOWEST_MAX,
+                                          solver.ASSIGN_CENTER_VALUE);
+    int[] sol = new int[n];
+    StringBuilder line = new StringBuilder();
+    long start = System.nanoTime();
+    solver.newSearch(db);
+    while (solver.nextSolution()) {
+      if (mode.equals("print")) {
+        for(int i = 0; i < n; i++) {
+          NULL_OUT.print(q[i].value() + " ");
+        }
+        NULL_OUT.println();
+      } else if (mode.equals("extract")) {
+        NQueens.extract(q, sol);
+        line.setLength(0);
+        for(int i = 0; i < n; i++) {
+          line.append(sol[i]).append(' ');
+        }
+        NULL_OUT.println(line);
+      }
+    }
+    solver.endSearch();
+    long time = System.nanoTime() - start;
+    if (solver.solutions() == 0) {
+      return time;
+    }
+    return time / solver.solutions();
+  }
+
+  public static void main(String[] args) throws Exception {
+    int n = 10;
+    int rounds = 5;
+
+    if (args.length > 0) {
+      n = Integer.parseInt(args[0]);
+    }
+
+    if (args.length > 1) {
+      rounds = Integer.parseInt(args[1]);
+    }
+
+    String[] modes = {"none", "print", "extract"};
+    long[] best = new long[modes.length];
+    java.util.Arrays.fill(best, Long.MAX_VALUE);
+
+    // the first round is warm-up and not reported
+    for(int r = 0; r <= rounds; r++) {
+      for(int m = 0; m < modes.length; m++) {
+        long t = run(n, modes[m]);
+        if (r > 0) {
+          best[m] = Math.min(best[m], t);
+        }
+      }
+    }
+
+    System.out.println("n: " + n + ", rounds: " + rounds);
+    for(int m = 0; m < modes.length; m++) {
+      System.out.format("%-8s %8d ns/solution  overhead %8d ns/solution%n",
+                        modes[m], best[m], best[m] - best[0]);
+    }
+  }
+}
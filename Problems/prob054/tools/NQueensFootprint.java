@@ -0,0 +1,135 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ortools.constraintsolver.samples;
+
+import java.io.*;
+import java.util.*;
+
+import com.google.ortools.constraintsolver.DecisionBuilder;
+import com.google.ortools.constraintsolver.IntVar;
+import com.google.ortools.constraintsolver.Solver;
+
+/**
+ *
+ * Compares the footprint of the two N Queens formulations:
+ *   NQueens  : n(n-1) binary makeNonEquality constraints
+ *   NQueens2 : three makeAllDifferent over q, q+i and q-i
+ *
+ * For each model and n it measures
+ *   build_ms       time to post the model (NQueens.model / NQueens2.model)
+ *   constraints    solver.constraints() after the build
+ *   rss_kb         growth of the resident set size during the build,
+ *                  from /proc/self/status (Linux only, else -1); this
+ *                  includes the native memory of the solver. Memory
+ *                  freed by earlier measurements may be reused, so for
+ *                  exact numbers pass a single n per run
+ *   first_ms       time from newSearch to the first solution
+ *   failures, branches   for the first solution
+ * and writes one CSV line per measurement.
+ *
+ * Usage: NQueensFootprint [out.csv|-] [max_n_NQueens] [n ...]
+ * The default n are 8, 16, ..., 4096 and 5000. NQueens is skipped
+ * above max_n_NQueens (default 2000), where its n^2 constraints no
+ * longer fit in a normal heap. Without out.csv, or with - in its
+ * place (to give max_n_NQueens or n), the CSV goes to stdout.
+ *
+ */
+public class NQueensFootprint {
+
+  static {
+    System.loadLibrary("jniconstraintsolver");
+  }
+
+  static long rssKb() {
+    try {
+      BufferedReader in = new BufferedReader(new FileReader("/proc/self/status"));
+      try {
+        String line;
+        while ((line = in.readLine()) != null) {
+          if (line.startsWith("VmRSS:")) {
+            return Long.parseLong(line.replaceAll("[^0-9]", ""));
+          }
+        }
+      } finally {
+        in.close();
+      }
+    } catch (IOException e) {
+      // not on Linux
+    }
+    return -1;
+  }
+
+  static String measure(String model, int n) {
+    System.gc();
+    long rss0 = rssKb();
+    long t0 = System.nanoTime();
+
+    Solver solver = new Solver(model);
+    IntVar[] q = model.equals("NQueens") ? NQueens.model(solver, n)
+                                         : NQueens2.model(solver, n);
+
+    long t1 = System.nanoTime();
+    long rss1 = rssKb();
+    int constraints = solver.constraints();
+
+    DecisionBuilder db = solver.makePhase(q,
+                                          solver.CHOOSE_MIN_SIZE_LOWEST_MAX,
+                                          solver.ASSIGN_CENTER_VALUE);
+    solver.newSearch(db);
+    boolean found = solver.nextSolution();
+    long t2 = System.nanoTime();
+    long failures = solver.failures();
+    long branches = solver.branches();
+    solver.endSearch();
+
+    return model + "," + n + "," + (t1 - t0) / 1000000 + "," + constraints + ","
+      + (rss0 < 0 ? -1 : rss1 - rss0) + "," + (found ? (t2 - t1) / 1000000 : -1)
+      + "," + failures + "," + branches;
+  }
+
+  public static void main(String[] args) throws Exception {
+    PrintStream out = System.out;
+    int maxNQueens = 2000;
+    List<Integer> sizes = new ArrayList<Integer>();
+
+    if (args.length > 0 && !args[0].equals("-")) {
+      out = new PrintStream(new FileOutputStream(args[0]));
+    }
+
+    if (args.length > 1) {
+      maxNQueens = Integer.parseInt(args[1]);
+    }
+
+    for(int i = 2; i < args.length; i++) {
+      sizes.add(Integer.parseInt(args[i]));
+    }
+    if (sizes.isEmpty()) {
+      for(int n = 8; n <= 4096; n *= 2) {
+        sizes.add(n);
+      }
+      sizes.add(5000);
+    }
+
+    out.println("model,n,build_ms,constraints,rss_kb,first_ms,failures,branches");
+    for(int n : sizes) {
+      if (n <= maxNQueens) {
+        out.println(measure("NQueens", n));
+      }
+      out.println(measure("NQueens2", n));
+      out.flush();
+    }
+    if (out != System.out) {
+      out.close();
+    }
+  }
+}
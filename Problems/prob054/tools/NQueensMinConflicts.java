@@ -0,0 +1,257 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ortools.constraintsolver.samples;
+
+import java.util.*;
+
+/**
+ *
+ * First solution of the N Queens problem for large n (up to 10^6 and
+ * beyond) by min-conflicts local search.
+ *
+ * The board is a permutation q (queen i in row i, column q[i]), so rows
+ * and columns never conflict; only the diagonals are counted, in two
+ * int arrays of size 2n-1. This follows the linear-time method of
+ * Sosic and Gu ("3,000,000 queens in less than one minute", SIGART
+ * Bulletin 2(2), 1991):
+ *
+ *  1. greedy start: queens are placed row by row on a random free
+ *     column, swapping into the permutation, as long as a conflict-free
+ *     column is found within about 3.08n attempts. The remaining rows
+ *     are filled at random.
+ *  2. repair: a queen under attack is swapped with a random other queen
+ *     whenever that lowers the number of diagonal collisions.
+ *
+ * Memory is 5n ints. NQueens builds O(n^2) constraints and cannot get
+ * near these sizes.
+ *
+ * Usage:
+ *   NQueensMinConflicts [n] [seed] [verify] [print]
+ *   NQueensMinConflicts sweep
+ * verify = 1 also checks the result with the OR-tools model
+ * (NQueens2.verify), which needs the jniconstraintsolver library.
+ * sweep reports time and memory for n = 10^3 .. 10^6.
+ *
+ */
+public class NQueensMinConflicts {
+
+  final int n;
+  final int[] q;
+  final int[] dn;  // queens on diagonal i + q[i]
+  final int[] dp;  // queens on diagonal i - q[i] + n - 1
+  final SplittableRandom rnd;
+  long collisions = 0;
+  long swaps = 0;
+
+  NQueensMinConflicts(int n, long seed) {
+    if (n < 1) {
+      throw new IllegalArgumentException("n must be at least 1: " + n);
+    }
+    this.n = n;
+    this.q = new int[n];
+    this.dn = new int[2 * n - 1];
+    this.dp = new int[2 * n - 1];
+    this.rnd = new SplittableRandom(seed);
+  }
+
+  private int remove(int i) {
+    int d = 0;
+    if (dn[i + q[i]]-- > 1) d--;
+    if (dp[i - q[i] + n - 1]-- > 1) d--;
+    return d;
+  }
+
+  private int add(int i) {
+    int d = 0;
+    if (dn[i + q[i]]++ > 0) d++;
+    if (dp[i - q[i] + n - 1]++ > 0) d++;
+    return d;
+  }
+
+  private void swap(int i, int j) {
+    int t = q[i];
+    q[i] = q[j];
+    q[j] = t;
+  }
+
+  private boolean attacked(int i) {
+    return dn[i + q[i]] > 1 || dp[i - q[i] + n - 1] > 1;
+  }
+
+  private void start() {
+    for(int i = 0; i < n; i++) {
+      q[i] = i;
+    }
+    Arrays.fill(dn, 0);
+    Arrays.fill(dp, 0);
+    collisions = 0;
+
+    int i = 0;
+    long tries = 0;
+    long maxTries = (long)(3.08 * n);
+    while (i < n && tries < maxTries) {
+      int j = i + rnd.nextInt(n - i);
+      swap(i, j);
+      if (dn[i + q[i]] == 0 && dp[i - q[i] + n - 1] == 0) {
+        add(i);
+        i++;
+      } else {
+        swap(i, j);
+      }
+      tries++;
+    }
+    for(int k = i; k < n; k++) {
+      swap(k, k + rnd.nextInt(n - k));
+      collisions += add(k);
+    }
+  }
+
+  private void repair(long maxSteps) {
+    long steps = 0;
+    while (collisions > 0 && steps < maxSteps) {
+      for(int i = 0; i < n && collisions > 0; i++) {
+        if (!attacked(i)) {
+          continue;
+        }
+        int j = rnd.nextInt(n);
+        if (j == i) {
+          continue;
+        }
+        steps++;
+        int delta = remove(i) + remove(j);
+        swap(i, j);
+        delta += add(i) + add(j);
+        if (delta < 0) {
+          collisions += delta;
+          swaps++;
+        } else {
+          remove(i);
+          remove(j);
+          swap(i, j);
+          add(i);
+          add(j);
+        }
+      }
+    }
+  }
+
+  /**
+   *
+   * Returns a solution, or null for n = 2 and n = 3 which have none.
+   *
+   */
+  int[] solve() {
+    if (n == 2 || n == 3) {
+      return null;
+    }
+    if (n == 1) {
+      return new int[] {0};
+    }
+    // small boards can get stuck in a local minimum: restart
+    do {
+      start();
+      repair(100L * n + 10000);
+    } while (collisions > 0);
+    return q;
+  }
+
+  /**
+   *
+   * O(n) check that sol is a solution.
+   *
+   */
+  static boolean check(int[] sol) {
+    int n = sol.length;
+    if (n == 0) {
+      return false;
+    }
+    boolean[] col = new boolean[n];
+    boolean[] d1 = new boolean[2 * n - 1];
+    boolean[] d2 = new boolean[2 * n - 1];
+    for(int i = 0; i < n; i++) {
+      int c = sol[i];
+      if (c < 0 || c >= n || col[c] || d1[i + c] || d2[i - c + n - 1]) {
+        return false;
+      }
+      col[c] = d1[i + c] = d2[i - c + n - 1] = true;
+    }
+    return true;
+  }
+
+  static long usedMemory() {
+    Runtime rt = Runtime.getRuntime();
+    return rt.totalMemory() - rt.freeMemory();
+  }
+
+  static void run(int n, long seed, int verify, int print) {
+    System.gc();
+    long mem0 = usedMemory();
+    long start = System.nanoTime();
+    NQueensMinConflicts mc = new NQueensMinConflicts(n, seed);
+    int[] sol = mc.solve();
+    long time = (System.nanoTime() - start) / 1000000;
+    long mem = usedMemory() - mem0;
+
+    if (sol == null) {
+      System.out.println("n: " + n + " has no solution");
+      return;
+    }
+
+    if (print != 0) {
+      StringBuilder line = new StringBuilder();
+      for(int i = 0; i < n; i++) {
+        line.append(sol[i]).append(' ');
+      }
+      System.out.println(line);
+    }
+
+    System.out.format("n: %d  time: %dms  memory: %dkB  swaps: %d  check: %b%n",
+                      n, time, mem / 1024, mc.swaps, check(sol));
+
+    if (verify != 0) {
+      System.out.println("OR-tools verify: " + NQueens2.verify(sol));
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length > 0 && args[0].equals("sweep")) {
+      for(int n = 1000; n <= 1000000; n *= 10) {
+        run(n, 1, 0, 0);
+      }
+      return;
+    }
+
+    int n = 1000;
+    long seed = 1;
+    int verify = 0;
+    int print = 0;
+
+    if (args.length > 0) {
+      n = Integer.parseInt(args[0]);
+    }
+
+    if (args.length > 1) {
+      seed = Long.parseLong(args[1]);
+    }
+
+    if (args.length > 2) {
+      verify = Integer.parseInt(args[2]);
+    }
+
+    if (args.length > 3) {
+      print = Integer.parseInt(args[3]);
+    }
+
+    run(n, seed, verify, print);
+  }
+}
@@ -0,0 +1,100 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ortools.constraintsolver.samples;
+
+import java.util.*;
+
+import com.google.ortools.constraintsolver.DecisionBuilder;
+import com.google.ortools.constraintsolver.IntVar;
+import com.google.ortools.constraintsolver.Solver;
+
+import org.csplib.tools.Cursor;
+import org.csplib.tools.SolutionPublisher;
+
+/**
+ *
+ * The solutions of NQueens or NQueens2 as a Flow.Publisher: a
+ * SolutionPublisher (tools/) over the model's search. Every subscriber
+ * gets its own Solver, whose nextSolution() is only called when the
+ * publisher asks for the next solution. Each solution is the queens'
+ * columns, checked before it is sent. Jsr331Publisher (prob049) does
+ * the same for SetPartition; the other models are published by
+ * SolutionPublisher itself, through their Definition.
+ *
+ * Usage: NQueensPublisher [n] [model] [batch] [delay_ms]
+ * runs a subscriber that requests batch solutions at a time and sleeps
+ * delay_ms per solution.
+ *
+ */
+public class NQueensPublisher extends SolutionPublisher {
+
+  static {
+    System.loadLibrary("jniconstraintsolver");
+  }
+
+  NQueensPublisher(String model, int n) {
+    super("NQueensPublisher", () -> search(model, n));
+    if (!model.equals("NQueens") && !model.equals("NQueens2")) {
+      throw new IllegalArgumentException("unknown model: " + model);
+    }
+  }
+
+  static Cursor search(String model, int n) {
+    final Solver solver = new Solver(model);
+    final IntVar[] q = model.equals("NQueens") ? NQueens.model(solver, n) : NQueens2.model(solver, n);
+    DecisionBuilder db = solver.makePhase(q,
+                                          solver.CHOOSE_MIN_SIZE_LOWEST_MAX,
+                                          solver.ASSIGN_CENTER_VALUE);
+    solver.newSearch(db);
+    final int[] sol = new int[n];
+    return new Cursor() {
+      public boolean next() {
+        if (!solver.nextSolution()) {
+          return false;
+        }
+        NQueens2.extract(q, sol);
+        if (!NQueensMinConflicts.check(sol)) {
+          throw new IllegalStateException("invalid solution: " + Arrays.toString(sol));
+        }
+        return true;
+      }
+
+      public int[] values() {
+        return sol;
+      }
+
+      public void close() {
+        solver.endSearch();
+      }
+    };
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    int n = 8;
+    String model = "NQueens2";
+
+    if (args.length > 0) {
+      n = Integer.parseInt(args[0]);
+    }
+
+    if (args.length > 1) {
+      model = args[1];
+    }
+
+    int batch = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+    long delay = args.length > 3 ? Long.parseLong(args[3]) : 0;
+
+    System.out.println("n: " + n);
+    consume(new NQueensPublisher(model, n), batch, delay);
+  }
+}
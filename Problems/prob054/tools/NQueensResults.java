@@ -0,0 +1,282 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ortools.constraintsolver.samples;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ *
+ * Append-only store of run results, and a comparison of two runs that
+ * flags statistically significant slowdowns.
+ *
+ * Each record is one CSV line:
+ *   run,problem,model,solver,n,limit,time_ms,nodes,fails,solutions
+ * where run identifies one invocation (e.g. a date and a solver
+ * version) and limit is the solution limit (0 = all). Records are only
+ * ever appended, so old runs stay available for comparison.
+ * NQueensSweep writes here with results=file.
+ *
+ * Next to the store, file.idx holds one line "run,offset,length" per
+ * record, so listing the runs reads only the index and a comparison
+ * reads only the records of its two runs. The index is written with
+ * every record; when it is missing or does not cover the whole store
+ * (e.g. after the store was edited by hand) it is rebuilt.
+ *
+ * The store is meant to live outside the repository: every file in
+ * Problems/prob054/results is published on the problem page.
+ *
+ * Usage: NQueensResults file                  list the runs
+ *        NQueensResults file base new [pct]   compare run new with base
+ * A (model, n, limit) is flagged when run new is slower by more than
+ * pct percent (default 5) and Welch's t-test says so at the 5% level
+ * (one-sided). This needs at least two records per run, so sweep with
+ * repeat=k.
+ *
+ */
+public class NQueensResults {
+
+  static final String HEADER = "run,problem,model,solver,n,limit,time_ms,nodes,fails,solutions";
+
+  static File indexOf(File file) {
+    return new File(file.getPath() + ".idx");
+  }
+
+  /**
+   *
+   * Whether run can be a run id: the first field of both the store and
+   * the index, so it must be non-empty and hold no comma or line break.
+   *
+   */
+  static boolean validRun(String run) {
+    return !run.isEmpty() && run.indexOf(',') < 0 && run.indexOf('\n') < 0 && run.indexOf('\r') < 0;
+  }
+
+  static synchronized void append(File file, String run, String problem, String model,
+                                  String solver, int n, int limit, long[] stats)
+      throws IOException {
+    if (!validRun(run)) {
+      throw new IllegalArgumentException("run id must be non-empty, without commas or line breaks: " + run);
+    }
+    // stats as returned by NQueens.run: solutions, failures, branches, time
+    String record = run + "," + problem + "," + model + "," + solver + "," + n + ","
+      + limit + "," + stats[3] + "," + stats[2] + "," + stats[1] + "," + stats[0] + "\n";
+    index(file);
+    RandomAccessFile out = new RandomAccessFile(file, "rw");
+    try {
+      if (out.length() == 0) {
+        out.write((HEADER + "\n").getBytes("UTF-8"));
+      }
+      long offset = out.length();
+      byte[] bytes = record.getBytes("UTF-8");
+      out.seek(offset);
+      out.write(bytes);
+      Writer idx = new FileWriter(indexOf(file), true);
+      try {
+        idx.write(run + "," + offset + "," + bytes.length + "\n");
+      } finally {
+        idx.close();
+      }
+    } finally {
+      out.close();
+    }
+  }
+
+  /**
+   *
+   * Offsets and lengths of the records per run, in file order, from
+   * the index. The index is rebuilt from the store first when it is
+   * missing or stale.
+   *
+   */
+  static Map<String, List<long[]>> index(File file) throws IOException {
+    Map<String, List<long[]>> runs = new LinkedHashMap<String, List<long[]>>();
+    if (!file.exists()) {
+      indexOf(file).delete();
+      return runs;
+    }
+    long end = 0;
+    File idx = indexOf(file);
+    if (idx.exists()) {
+      BufferedReader in = new BufferedReader(new FileReader(idx));
+      try {
+        String line;
+        while ((line = in.readLine()) != null) {
+          int c1 = line.indexOf(',');
+          int c2 = line.indexOf(',', c1 + 1);
+          long[] entry = {Long.parseLong(line.substring(c1 + 1, c2)),
+                          Long.parseLong(line.substring(c2 + 1))};
+          add(runs, line.substring(0, c1), entry);
+          end = Math.max(end, entry[0] + entry[1]);
+        }
+      } finally {
+        in.close();
+      }
+    }
+    long header = (HEADER + "\n").length();
+    if (end == file.length() || (runs.isEmpty() && file.length() <= header)) {
+      return runs;
+    }
+
+    // rebuild from the store
+    runs.clear();
+    RandomAccessFile in = new RandomAccessFile(file, "r");
+    Writer out = new BufferedWriter(new FileWriter(idx));
+    try {
+      long offset = 0;
+      String line;
+      while ((line = in.readLine()) != null) {
+        long next = in.getFilePointer();
+        if (!line.isEmpty() && !line.startsWith("run,")) {
+          String run = line.substring(0, line.indexOf(','));
+          add(runs, run, new long[] {offset, next - offset});
+          out.write(run + "," + offset + "," + (next - offset) + "\n");
+        }
+        offset = next;
+      }
+    } finally {
+      in.close();
+      out.close();
+    }
+    return runs;
+  }
+
+  static void add(Map<String, List<long[]>> runs, String run, long[] entry) {
+    List<long[]> entries = runs.get(run);
+    if (entries == null) {
+      entries = new ArrayList<long[]>();
+      runs.put(run, entries);
+    }
+    entries.add(entry);
+  }
+
+  /**
+   *
+   * Times per model:n:limit of one run, read through the index.
+   *
+   */
+  static Map<String, List<Double>> read(File file, List<long[]> entries) throws IOException {
+    Map<String, List<Double>> times = new TreeMap<String, List<Double>>();
+    RandomAccessFile in = new RandomAccessFile(file, "r");
+    try {
+      for(long[] entry : entries) {
+        byte[] bytes = new byte[(int)entry[1]];
+        in.seek(entry[0]);
+        in.readFully(bytes);
+        String[] f = new String(bytes, "UTF-8").trim().split(",");
+        String key = f[2] + ":" + f[4] + ":" + f[5];
+        List<Double> list = times.get(key);
+        if (list == null) {
+          list = new ArrayList<Double>();
+          times.put(key, list);
+        }
+        list.add(Double.parseDouble(f[6]));
+      }
+    } finally {
+      in.close();
+    }
+    return times;
+  }
+
+  static double mean(List<Double> xs) {
+    double s = 0;
+    for(double x : xs) {
+      s += x;
+    }
+    return s / xs.size();
+  }
+
+  static double variance(List<Double> xs, double mean) {
+    double s = 0;
+    for(double x : xs) {
+      s += (x - mean) * (x - mean);
+    }
+    return s / (xs.size() - 1);
+  }
+
+  /**
+   *
+   * One-sided 95% critical value of Student's t with df degrees of
+   * freedom (Cornish-Fisher expansion around the normal quantile).
+   *
+   */
+  static double tCritical(double df) {
+    double z = 1.6449;
+    double z3 = z * z * z;
+    double z5 = z3 * z * z;
+    return z + (z3 + z) / (4 * df) + (5 * z5 + 16 * z3 + 3 * z) / (96 * df * df);
+  }
+
+  static void compare(Map<String, List<Double>> base, Map<String, List<Double>> next,
+                      double pct) {
+    System.out.format("%-20s %10s %10s %8s %8s  %s%n",
+                      "model:n:limit", "base(ms)", "new(ms)", "change", "t", "");
+    int flagged = 0;
+    for(Map.Entry<String, List<Double>> e : next.entrySet()) {
+      List<Double> a = base.get(e.getKey());
+      List<Double> b = e.getValue();
+      if (a == null || a.size() < 2 || b.size() < 2) {
+        continue;
+      }
+      double ma = mean(a);
+      double mb = mean(b);
+      double va = variance(a, ma) / a.size();
+      double vb = variance(b, mb) / b.size();
+      double change = ma == 0 ? 0 : 100 * (mb - ma) / ma;
+      double t;
+      boolean slower;
+      if (va + vb == 0) {
+        t = mb > ma ? Double.POSITIVE_INFINITY : 0;
+        slower = mb > ma && change > pct;
+      } else {
+        t = (mb - ma) / Math.sqrt(va + vb);
+        double df = (va + vb) * (va + vb)
+          / (va * va / (a.size() - 1) + vb * vb / (b.size() - 1));
+        slower = change > pct && t > tCritical(df);
+      }
+      if (slower) {
+        flagged++;
+      }
+      System.out.format("%-20s %10.1f %10.1f %7.1f%% %8.2f  %s%n",
+                        e.getKey(), ma, mb, change, t, slower ? "SLOWER" : "");
+    }
+    System.out.println();
+    System.out.println("Slowdowns: " + flagged);
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length < 1) {
+      System.out.println("Usage: NQueensResults file [base new [pct]]");
+      return;
+    }
+
+    File file = new File(args[0]);
+    Map<String, List<long[]>> runs = index(file);
+
+    if (args.length < 3) {
+      for(Map.Entry<String, List<long[]>> run : runs.entrySet()) {
+        System.out.println(run.getKey() + ": " + run.getValue().size() + " records");
+      }
+      return;
+    }
+
+    double pct = args.length > 3 ? Double.parseDouble(args[3]) : 5;
+    List<long[]> base = runs.get(args[1]);
+    List<long[]> next = runs.get(args[2]);
+    if (base == null || next == null) {
+      System.out.println("Unknown run: " + (base == null ? args[1] : args[2]));
+      return;
+    }
+    compare(read(file, base), read(file, next), pct);
+  }
+}
@@ -0,0 +1,413 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ortools.constraintsolver.samples;
+
+import java.io.*;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+import com.google.ortools.constraintsolver.DecisionBuilder;
+import com.google.ortools.constraintsolver.IntVar;
+import com.google.ortools.constraintsolver.SearchLimit;
+import com.google.ortools.constraintsolver.Solver;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ *
+ * Long-running N Queens solve service, on stdin/stdout or over HTTP,
+ * so callers pay JVM and jniconstraintsolver startup once instead of
+ * once per request.
+ *
+ * A request is a model (NQueens or NQueens2), n, a solution limit (0 =
+ * all solutions, the default), a time limit for the search in ms (0 =
+ * none, the default), and whether to stream the solutions back as
+ * they are found.
+ *
+ * Every request runs on its own virtual thread where the JVM has them
+ * (Java 21 and later) and on a thread of a cached pool otherwise, e.g.
+ * on Java 17. The searches are CPU-bound, so at most threads of them
+ * (default: number of cores) run at a time; the others wait for a
+ * permit.
+ *
+ * Results of requests that do not stream are kept in an LRU cache
+ * keyed on the normalised request (model:n:limit:time); a repeated
+ * request is answered from the cache, and a request that is still
+ * running is shared rather than started twice. A request that fails or
+ * hits its time limit is dropped from the cache, so it runs again when
+ * repeated. Streamed requests always search.
+ *
+ * On stdin each line is a request "model n [limit] [time=ms] [stream]",
+ * and every result is written as soon as it is ready, tagged with the
+ * request number:
+ *   #id solution q0 q1 ...       per solution, when streamed
+ *   #id model n limit solutions failures branches time(ms) [timeout] [cached]
+ * An empty line or end of input stops the service once the running
+ * requests are done.
+ *
+ * With port=P the service answers HTTP instead, e.g.
+ *   GET /solve?model=NQueens2&n=12&limit=0&time=5000&stream=1
+ * with a chunked text/plain body: a line "q0 q1 ..." per solution
+ * when streamed, then the result line as above without #id.
+ *
+ * Usage: NQueensService [threads] [cache_size] [port=P]
+ *
+ */
+public class NQueensService {
+
+  static {
+    System.loadLibrary("jniconstraintsolver");
+  }
+
+  static class Request {
+    final String model;
+    final int n;
+    final int limit;
+    final long time;
+    final boolean stream;
+
+    Request(String model, int n, int limit, long time, boolean stream) {
+      if (!model.equals("NQueens") && !model.equals("NQueens2")) {
+        throw new IllegalArgumentException("unknown model " + model);
+      }
+      if (n < 1) {
+        throw new IllegalArgumentException("n must be at least 1: " + n);
+      }
+      this.model = model;
+      this.n = n;
+      this.limit = Math.max(0, limit);
+      this.time = Math.max(0, time);
+      this.stream = stream;
+    }
+
+    String key() {
+      return model + ":" + n + ":" + limit + ":" + time;
+    }
+  }
+
+  static class Job {
+    final CompletableFuture<long[]> result;
+    final boolean cached;
+
+    Job(CompletableFuture<long[]> result, boolean cached) {
+      this.result = result;
+      this.cached = cached;
+    }
+  }
+
+  final ExecutorService executor;
+  final Semaphore permits;
+  final Map<String, CompletableFuture<long[]>> cache;
+
+  NQueensService(int threads, final int cacheSize) {
+    executor = newExecutor();
+    permits = new Semaphore(threads, true);
+    cache = new LinkedHashMap<String, CompletableFuture<long[]>>(16, 0.75f, true) {
+        protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<long[]>> eldest) {
+          return size() > cacheSize;
+        }
+      };
+  }
+
+  /**
+   *
+   * A virtual thread per task where the JVM has them, else a cached
+   * thread pool. Executors.newVirtualThreadPerTaskExecutor is looked
+   * up by reflection so that the service still builds and runs on
+   * Java 17.
+   *
+   */
+  static ExecutorService newExecutor() {
+    try {
+      Method virtual = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService)virtual.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return Executors.newCachedThreadPool();
+    }
+  }
+
+  /**
+   *
+   * Runs the search of r once a permit is free and returns
+   * {solutions, failures, branches, wall time in ms, 1 if the time
+   * limit was hit else 0}. When solutions is not null, every solution
+   * is checked and passed to it (in an array that is reused).
+   *
+   */
+  long[] search(Request r, Consumer<int[]> solutions) throws InterruptedException {
+    permits.acquire();
+    try {
+      Solver solver = new Solver(r.model);
+      IntVar[] q = r.model.equals("NQueens")
+        ? NQueens.model(solver, r.n) : NQueens2.model(solver, r.n);
+      DecisionBuilder db = solver.makePhase(q,
+                                            solver.CHOOSE_MIN_SIZE_LOWEST_MAX,
+                                            solver.ASSIGN_CENTER_VALUE);
+      SearchLimit timeLimit = r.time > 0 ? solver.makeTimeLimit(r.time) : null;
+      if (timeLimit != null) {
+        solver.newSearch(db, timeLimit);
+      } else {
+        solver.newSearch(db);
+      }
+      boolean timedOut;
+      try {
+        int c = 0;
+        int[] sol = new int[r.n];
+        while (solver.nextSolution()) {
+          if (solutions != null) {
+            NQueens2.extract(q, sol);
+            if (!NQueensMinConflicts.check(sol)) {
+              throw new IllegalStateException("invalid solution: " + Arrays.toString(sol));
+            }
+            solutions.accept(sol);
+          }
+          c++;
+          if (r.limit > 0 && c >= r.limit) {
+            break;
+          }
+        }
+        timedOut = timeLimit != null && timeLimit.crossed();
+      } finally {
+        solver.endSearch();
+      }
+      return new long[] {solver.solutions(), solver.failures(), solver.branches(),
+                         solver.wall_time(), timedOut ? 1 : 0};
+    } finally {
+      permits.release();
+    }
+  }
+
+  CompletableFuture<long[]> start(final Request r, final Consumer<int[]> solutions) {
+    final CompletableFuture<long[]> result = new CompletableFuture<long[]>();
+    executor.execute(() -> {
+        try {
+          result.complete(search(r, solutions));
+        } catch (Throwable e) {
+          result.completeExceptionally(e);
+        }
+      });
+    return result;
+  }
+
+  /**
+   *
+   * Starts r, or joins the cached or running search of the same
+   * request when r does not stream.
+   *
+   */
+  Job submit(final Request r, Consumer<int[]> solutions) {
+    if (r.stream) {
+      return new Job(start(r, solutions), false);
+    }
+    final String key = r.key();
+    final CompletableFuture<long[]> result;
+    synchronized (cache) {
+      CompletableFuture<long[]> known = cache.get(key);
+      if (known != null) {
+        return new Job(known, true);
+      }
+      result = start(r, null);
+      cache.put(key, result);
+    }
+    result.whenComplete((stats, error) -> {
+        if (error != null || stats[4] != 0) {
+          synchronized (cache) {
+            cache.remove(key, result);
+          }
+        }
+      });
+    return new Job(result, false);
+  }
+
+  static String format(Request r, long[] stats, boolean cached) {
+    return String.format("%s %d %d %d %d %d %d%s%s", r.model, r.n, r.limit,
+                         stats[0], stats[1], stats[2], stats[3],
+                         stats[4] != 0 ? " timeout" : "", cached ? " cached" : "");
+  }
+
+  static String format(int[] sol) {
+    StringBuilder line = new StringBuilder();
+    for(int i = 0; i < sol.length; i++) {
+      if (i > 0) {
+        line.append(' ');
+      }
+      line.append(sol[i]);
+    }
+    return line.toString();
+  }
+
+  static void print(PrintStream out, String text) {
+    synchronized (out) {
+      out.println(text);
+      out.flush();
+    }
+  }
+
+  static Throwable cause(Throwable e) {
+    return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+  }
+
+  static Request parse(String line) {
+    String[] f = line.trim().split("\\s+");
+    if (f.length < 2) {
+      throw new IllegalArgumentException("expected \"model n [limit] [time=ms] [stream]\"");
+    }
+    try {
+      int limit = 0;
+      long time = 0;
+      boolean stream = false;
+      for(int i = 2; i < f.length; i++) {
+        if (f[i].startsWith("time=")) {
+          time = Long.parseLong(f[i].substring(5));
+        } else if (f[i].equals("stream")) {
+          stream = true;
+        } else if (i == 2) {
+          limit = Integer.parseInt(f[i]);
+        } else {
+          throw new NumberFormatException(f[i]);
+        }
+      }
+      return new Request(f[0], Integer.parseInt(f[1]), limit, time, stream);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("expected \"model n [limit] [time=ms] [stream]\"");
+    }
+  }
+
+  void request(final int id, String line, final PrintStream out) {
+    final Request r;
+    try {
+      r = parse(line);
+    } catch (IllegalArgumentException e) {
+      print(out, "#" + id + " error: " + e.getMessage());
+      return;
+    }
+    final Job job = submit(r, r.stream
+                           ? sol -> print(out, "#" + id + " solution " + format(sol))
+                           : null);
+    job.result.whenComplete((stats, error) ->
+        print(out, error == null
+              ? "#" + id + " " + format(r, stats, job.cached)
+              : "#" + id + " error: " + cause(error)));
+  }
+
+  static Map<String, String> query(String raw) throws UnsupportedEncodingException {
+    Map<String, String> params = new HashMap<String, String>();
+    if (raw != null) {
+      for(String pair : raw.split("&")) {
+        String[] kv = pair.split("=", 2);
+        params.put(URLDecoder.decode(kv[0], "UTF-8"),
+                   kv.length > 1 ? URLDecoder.decode(kv[1], "UTF-8") : "");
+      }
+    }
+    return params;
+  }
+
+  /**
+   *
+   * GET /solve?model=..&n=..[&limit=..][&time=..][&stream=1]. The
+   * handler runs on the executor, so it may block until its search is
+   * done. A streamed search stops when the client goes away.
+   *
+   */
+  void solve(HttpExchange exchange) throws IOException {
+    try {
+      Request r;
+      try {
+        Map<String, String> p = query(exchange.getRequestURI().getRawQuery());
+        if (!p.containsKey("n")) {
+          throw new IllegalArgumentException("missing n");
+        }
+        r = new Request(p.containsKey("model") ? p.get("model") : "NQueens2",
+                        Integer.parseInt(p.get("n")),
+                        p.containsKey("limit") ? Integer.parseInt(p.get("limit")) : 0,
+                        p.containsKey("time") ? Long.parseLong(p.get("time")) : 0,
+                        "1".equals(p.get("stream")) || "true".equals(p.get("stream")));
+      } catch (IllegalArgumentException e) {
+        byte[] message = ("error: " + e.getMessage() + "\n").getBytes("UTF-8");
+        exchange.sendResponseHeaders(400, message.length);
+        exchange.getResponseBody().write(message);
+        return;
+      }
+
+      exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+      exchange.sendResponseHeaders(200, 0);
+      final PrintStream out = new PrintStream(exchange.getResponseBody(), true, "UTF-8");
+      Job job = submit(r, r.stream ? sol -> {
+          out.println(format(sol));
+          if (out.checkError()) {
+            throw new UncheckedIOException(new IOException("client closed the connection"));
+          }
+        } : null);
+      try {
+        print(out, format(r, job.result.get(), job.cached));
+      } catch (ExecutionException e) {
+        print(out, "error: " + e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    } finally {
+      exchange.close();
+    }
+  }
+
+  void serve(int port) throws IOException {
+    HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+    server.setExecutor(executor);
+    server.createContext("/solve", this::solve);
+    server.start();
+    System.out.println("Listening on port " + server.getAddress().getPort());
+  }
+
+  public static void main(String[] args) throws Exception {
+    int threads = Runtime.getRuntime().availableProcessors();
+    int cacheSize = 256;
+    int port = -1;
+
+    List<String> positional = new ArrayList<String>();
+    for(String arg : args) {
+      if (arg.startsWith("port=")) {
+        port = Integer.parseInt(arg.substring(5));
+      } else {
+        positional.add(arg);
+      }
+    }
+
+    if (positional.size() > 0) {
+      threads = Integer.parseInt(positional.get(0));
+    }
+
+    if (positional.size() > 1) {
+      cacheSize = Integer.parseInt(positional.get(1));
+    }
+
+    NQueensService service = new NQueensService(threads, cacheSize);
+    if (port >= 0) {
+      service.serve(port);
+      return;
+    }
+
+    BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+    String line;
+    int id = 0;
+    while ((line = in.readLine()) != null && !line.trim().isEmpty()) {
+      service.request(++id, line, System.out);
+    }
+    service.executor.shutdown();
+    service.executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+  }
+}
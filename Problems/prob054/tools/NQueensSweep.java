@@ -0,0 +1,188 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ortools.constraintsolver.samples;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ *
+ * Runs many N Queens jobs (model, n, solution limit) in one JVM, so the
+ * JVM and jniconstraintsolver are started once per sweep instead of
+ * once per n. The jobs run on a fixed-size thread pool; each job builds
+ * its own Solver (an OR-tools Solver must not be shared between
+ * threads). All results are printed as one table, in job order.
+ *
+ * Usage: NQueensSweep [threads] [job ...]
+ * threads (default: the number of processors) is at least 1.
+ * A job is model:n or model:from-to, optionally followed by :limit
+ * (0 = all solutions), where model is NQueens or NQueens2.
+ * The default is NQueens:4-30:1 NQueens2:4-30:1.
+ * Options among the jobs:
+ *   repeat=k      run every job k times (default 1); the repeats are
+ *                 rounds run one after the other, so no two runs of
+ *                 the same job overlap (threads=1 also keeps the jobs
+ *                 of a round from sharing the CPU, for timings)
+ *   results=file  append every run to file (see NQueensResults)
+ *   run=id        run id for the results file (default: start time),
+ *                 without commas
+ *
+ */
+public class NQueensSweep {
+
+  static {
+    System.loadLibrary("jniconstraintsolver");
+  }
+
+  static class Job implements Callable<long[]> {
+    final String model;
+    final int n;
+    final int limit;
+
+    Job(String model, int n, int limit) {
+      this.model = model;
+      this.n = n;
+      this.limit = limit;
+    }
+
+    public long[] call() {
+      if (model.equals("NQueens")) {
+        return NQueens.run(n, limit);
+      } else if (model.equals("NQueens2")) {
+        return NQueens2.run(n, limit);
+      }
+      throw new IllegalArgumentException("unknown model: " + model);
+    }
+  }
+
+  /**
+   *
+   * The jobs of a spec model:n[-to][:limit], or an
+   * IllegalArgumentException naming the spec when it is malformed.
+   *
+   */
+  static List<Job> parse(String spec) {
+    String[] parts = spec.split(":");
+    if (parts.length < 2 || parts.length > 3
+        || (!parts[0].equals("NQueens") && !parts[0].equals("NQueens2"))) {
+      throw new IllegalArgumentException("bad job: " + spec);
+    }
+    int from;
+    int to;
+    int limit;
+    try {
+      int dash = parts[1].indexOf('-');
+      if (dash < 0) {
+        from = to = Integer.parseInt(parts[1]);
+      } else {
+        from = Integer.parseInt(parts[1].substring(0, dash));
+        to = Integer.parseInt(parts[1].substring(dash + 1));
+      }
+      limit = parts.length > 2 ? Integer.parseInt(parts[2]) : 0;
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("bad job: " + spec);
+    }
+    if (to < from) {
+      throw new IllegalArgumentException("bad job, empty range: " + spec);
+    }
+
+    List<Job> jobs = new ArrayList<Job>();
+    for(int n = from; n <= to; n++) {
+      jobs.add(new Job(parts[0], n, limit));
+    }
+    return jobs;
+  }
+
+  public static void main(String[] args) throws Exception {
+    int threads = Runtime.getRuntime().availableProcessors();
+    List<String> specs = new ArrayList<String>();
+    int repeat = 1;
+    File store = null;
+    String run = new java.text.SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss").format(new Date());
+
+    List<Job> round = new ArrayList<Job>();
+    try {
+      int first = 0;
+      if (args.length > 0 && args[0].matches("\\d+")) {
+        threads = Integer.parseInt(args[0]);
+        first = 1;
+      }
+      if (threads < 1) {
+        throw new IllegalArgumentException("bad thread count: " + args[0]);
+      }
+      for(int i = first; i < args.length; i++) {
+        if (args[i].startsWith("repeat=")) {
+          repeat = Integer.parseInt(args[i].substring(7));
+          if (repeat < 1) {
+            throw new IllegalArgumentException("bad repeat: " + args[i]);
+          }
+        } else if (args[i].startsWith("results=")) {
+          store = new File(args[i].substring(8));
+        } else if (args[i].startsWith("run=")) {
+          run = args[i].substring(4);
+        } else {
+          specs.add(args[i]);
+        }
+      }
+      if (specs.isEmpty()) {
+        specs.add("NQueens:4-30:1");
+        specs.add("NQueens2:4-30:1");
+      }
+      if (!NQueensResults.validRun(run)) {
+        throw new IllegalArgumentException("bad run id, it must be non-empty, without commas: " + run);
+      }
+      for(String spec : specs) {
+        round.addAll(parse(spec));
+      }
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+      System.out.println("Usage: NQueensSweep [threads] [model:n[-to][:limit] ...] [repeat=k] [results=file] [run=id]");
+      System.out.println("model is NQueens or NQueens2, e.g. NQueens2:4-12:1");
+      System.exit(1);
+    }
+
+    ExecutorService pool = Executors.newFixedThreadPool(threads);
+    List<Job> jobs = new ArrayList<Job>();
+    List<Future<long[]>> results = new ArrayList<Future<long[]>>();
+    long start = System.currentTimeMillis();
+    for(int r = 0; r < repeat; r++) {
+      jobs.addAll(round);
+      results.addAll(pool.invokeAll(round));
+    }
+    long time = System.currentTimeMillis() - start;
+    pool.shutdown();
+
+    System.out.format("%-9s %4s %6s %12s %12s %12s %10s%n",
+                      "model", "n", "limit", "solutions", "failures",
+                      "branches", "time(ms)");
+    for(int i = 0; i < jobs.size(); i++) {
+      Job job = jobs.get(i);
+      try {
+        long[] r = results.get(i).get();
+        System.out.format("%-9s %4d %6d %12d %12d %12d %10d%n",
+                          job.model, job.n, job.limit, r[0], r[1], r[2], r[3]);
+        if (store != null) {
+          NQueensResults.append(store, run, "prob054", job.model, "or-tools",
+                                job.n, job.limit, r);
+        }
+      } catch (ExecutionException e) {
+        System.out.format("%-9s %4d %6d  failed: %s%n",
+                          job.model, job.n, job.limit, e.getCause());
+      }
+    }
+    System.out.println();
+    System.out.println("Jobs: " + jobs.size() + ", threads: " + threads);
+    System.out.println("Wall time: " + time + "ms");
+  }
+}
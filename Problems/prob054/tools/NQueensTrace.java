@@ -0,0 +1,302 @@
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ortools.constraintsolver.samples;
+
+import java.io.*;
+import java.util.*;
+
+import org.csplib.tools.TraceFormat;
+
+import com.google.ortools.constraintsolver.Decision;
+import com.google.ortools.constraintsolver.DecisionBuilder;
+import com.google.ortools.constraintsolver.IntVar;
+import com.google.ortools.constraintsolver.SearchMonitor;
+import com.google.ortools.constraintsolver.Solver;
+
+/**
+ *
+ * Records the search tree of NQueens or NQueens2 to a compact binary
+ * log, and reports on a recorded log offline.
+ *
+ * The recorder is a SearchMonitor that writes the records of
+ * org.csplib.tools.TraceFormat. depth is solver.searchDepth(). var is
+ * the index of the queen the decision is on, taken from the decision's
+ * text (-1 if it has none). With sample k, only every k-th decision and
+ * every k-th failure is recorded, so both the writes and the string per
+ * decision are cut k-fold: every decision only keeps a reference, and
+ * its text is read when a failure after it is recorded. The writes go
+ * through a 64 KB buffer.
+ *
+ * The report gives decisions and failures per depth and per variable
+ * (a failure counts for the variable of the last decision before it),
+ * scaled by the sample, and for an unsampled log can
+ * write the decision paths down to a depth in the folded-stack format
+ * of flamegraph.pl, so the width of a frame is the size of that
+ * subtree in decisions. Perfect Square Placement's SearchTrace
+ * (prob009/tools) writes the same format for the JaCoP search.
+ *
+ * Usage: NQueensTrace record log [n] [model] [sample]
+ *        NQueensTrace report log [folded_out] [max_depth]
+ *
+ */
+public class NQueensTrace {
+
+  static class Recorder extends SearchMonitor {
+    final Solver solver;
+    final DataOutputStream out;
+    final int sample;
+    int decisions;
+    int failures;
+    // the last decision applied or refuted, sampled or not
+    Decision last;
+
+    Recorder(Solver solver, DataOutputStream out, int sample) {
+      super(solver);
+      this.solver = solver;
+      this.out = out;
+      this.sample = sample;
+    }
+
+    /**
+     *
+     * The queen index in a decision such as "[q12(0..15) == 3]".
+     *
+     */
+    int var(Decision d) {
+      String s = d.toString();
+      int i = 0;
+      while (i < s.length() && !Character.isDigit(s.charAt(i))) {
+        i++;
+      }
+      int v = 0;
+      boolean found = false;
+      while (i < s.length() && Character.isDigit(s.charAt(i))) {
+        v = 10 * v + (s.charAt(i++) - '0');
+        found = true;
+      }
+      return found ? v : -1;
+    }
+
+    void write(int tag, int var) {
+      try {
+        TraceFormat.write(out, tag, solver.searchDepth(), var);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public void applyDecision(Decision d) {
+      last = d;
+      if (decisions++ % sample == 0) {
+        write(TraceFormat.APPLY, var(d));
+      }
+    }
+
+    @Override
+    public void refuteDecision(Decision d) {
+      last = d;
+      if (decisions++ % sample == 0) {
+        write(TraceFormat.REFUTE, var(d));
+      }
+    }
+
+    @Override
+    public void beginFail() {
+      if (failures++ % sample == 0) {
+        // last is still on the search path: nothing was undone yet
+        write(TraceFormat.FAIL, last == null ? -1 : var(last));
+      }
+    }
+
+    @Override
+    public boolean atSolution() {
+      write(TraceFormat.SOLUTION, 0);
+      return false;
+    }
+  }
+
+  static long[] record(File log, int n, String model, int sample) throws IOException {
+    // loaded here rather than in a static block: report needs no solver
+    System.loadLibrary("jniconstraintsolver");
+    DataOutputStream out = new DataOutputStream(
+      new BufferedOutputStream(new FileOutputStream(log), 1 << 16));
+    try {
+      String[] names = new String[n];
+      for(int i = 0; i < n; i++) {
+        names[i] = "q" + i;
+      }
+      TraceFormat.writeHeader(out, sample, names);
+
+      Solver solver = new Solver(model);
+      IntVar[] q = model.equals("NQueens")
+        ? NQueens.model(solver, n) : NQueens2.model(solver, n);
+      DecisionBuilder db = solver.makePhase(q,
+                                            solver.CHOOSE_MIN_SIZE_LOWEST_MAX,
+                                            solver.ASSIGN_CENTER_VALUE);
+      solver.newSearch(db, new Recorder(solver, out, sample));
+      while (solver.nextSolution()) {
+      }
+      solver.endSearch();
+      return new long[] {solver.solutions(), solver.failures(),
+                         solver.branches(), solver.wall_time()};
+    } finally {
+      out.close();
+    }
+  }
+
+  static void report(File log, File folded, int maxDepth) throws IOException {
+    DataInputStream in = new DataInputStream(
+      new BufferedInputStream(new FileInputStream(log), 1 << 16));
+    long[] depthDecisions = new long[64];
+    long[] depthFailures = new long[64];
+    long[] varDecisions;
+    long[] varFailures;
+    long[] unknown = new long[2];
+    long solutions = 0;
+    String[] names;
+    int sample;
+    int[] path = new int[maxDepth + 1];
+    Arrays.fill(path, Integer.MIN_VALUE); // above the first decision
+    Map<String, Long> stacks = new HashMap<String, Long>();
+    StringBuilder stack = new StringBuilder();
+
+    try {
+      TraceFormat.Header header;
+      try {
+        header = TraceFormat.readHeader(in);
+      } catch (IOException e) {
+        throw new IOException(log + ": " + e.getMessage(), e);
+      }
+      sample = header.sample;
+      names = header.names;
+      int n = names.length;
+      if (sample > 1 && folded != null) {
+        System.out.println("Folded stacks need every decision, not written for sample " + sample);
+        folded = null;
+      }
+      varDecisions = new long[n];
+      varFailures = new long[n];
+      while (true) {
+        int tag = in.read();
+        if (tag < 0) {
+          break;
+        }
+        int depth = in.readShort();
+        if (depth >= depthDecisions.length) {
+          depthDecisions = Arrays.copyOf(depthDecisions, 2 * depth);
+          depthFailures = Arrays.copyOf(depthFailures, 2 * depth);
+        }
+        int var = TraceFormat.hasVar(tag) ? in.readShort() : -1;
+        if (tag == TraceFormat.APPLY || tag == TraceFormat.REFUTE) {
+          depthDecisions[depth] += sample;
+          if (var >= 0 && var < n) {
+            varDecisions[var] += sample;
+          } else {
+            unknown[0] += sample;
+          }
+          if (folded != null && depth <= maxDepth) {
+            path[depth] = var;
+            stack.setLength(0);
+            for(int d = 0; d <= depth; d++) {
+              if (path[d] == Integer.MIN_VALUE) {
+                continue;
+              }
+              if (stack.length() > 0) {
+                stack.append(';');
+              }
+              stack.append(path[d] >= 0 && path[d] < n ? names[path[d]] : "?");
+            }
+            String key = stack.toString();
+            Long count = stacks.get(key);
+            stacks.put(key, count == null ? 1 : count + 1);
+          }
+        } else if (tag == TraceFormat.FAIL) {
+          depthFailures[depth] += sample;
+          if (var >= 0 && var < n) {
+            varFailures[var] += sample;
+          } else {
+            unknown[1] += sample;
+          }
+        } else if (tag == TraceFormat.SOLUTION) {
+          solutions++;
+        } else {
+          throw new IOException("bad record tag " + tag + " in " + log);
+        }
+      }
+    } finally {
+      in.close();
+    }
+
+    System.out.format("%6s %14s %14s %8s%n", "depth", "decisions", "failures", "fail%");
+    for(int d = 0; d < depthDecisions.length; d++) {
+      if (depthDecisions[d] + depthFailures[d] > 0) {
+        System.out.format("%6d %14d %14d %7.1f%%%n", d, depthDecisions[d], depthFailures[d],
+                          depthDecisions[d] == 0 ? 0 : 100.0 * depthFailures[d] / depthDecisions[d]);
+      }
+    }
+    System.out.println();
+    System.out.format("%6s %14s %14s%n", "var", "decisions", "failures");
+    for(int v = 0; v < varDecisions.length; v++) {
+      if (varDecisions[v] + varFailures[v] > 0) {
+        System.out.format("%6s %14d %14d%n", names[v], varDecisions[v], varFailures[v]);
+      }
+    }
+    System.out.format("%6s %14d %14d%n", "?", unknown[0], unknown[1]);
+    System.out.println();
+    System.out.println("Solutions: " + solutions);
+    if (sample > 1) {
+      System.out.println("Sample: 1 in " + sample + ", decision and failure counts are estimates");
+    }
+
+    if (folded != null) {
+      // one stack per line with its count: each prefix counts once
+      // for itself, so flamegraph.pl shows subtree sizes
+      PrintWriter out = new PrintWriter(new BufferedWriter(new FileWriter(folded)));
+      try {
+        for(Map.Entry<String, Long> e : stacks.entrySet()) {
+          out.println(e.getKey() + " " + e.getValue());
+        }
+      } finally {
+        out.close();
+      }
+      System.out.println("Folded stacks: " + stacks.size() + " written to " + folded);
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length < 2) {
+      System.out.println("Usage: NQueensTrace record log [n] [model] [sample]");
+      System.out.println("       NQueensTrace report log [folded_out] [max_depth]");
+      return;
+    }
+
+    File log = new File(args[1]);
+    if (args[0].equals("record")) {
+      int n = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+      String model = args.length > 3 ? args[3] : "NQueens2";
+      int sample = args.length > 4 ? Integer.parseInt(args[4]) : 1;
+      long[] r = record(log, n, model, Math.max(1, sample));
+      System.out.println("n: " + n);
+      System.out.println("Solutions: " + r[0]);
+      System.out.println("Failures: " + r[1]);
+      System.out.println("Branches: " + r[2]);
+      System.out.println("Wall time: " + r[3] + "ms");
+      System.out.println("Log: " + log.length() + " bytes");
+    } else {
+      File folded = args.length > 2 ? new File(args[2]) : null;
+      int maxDepth = args.length > 3 ? Integer.parseInt(args[3]) : 8;
+      report(log, folded, maxDepth);
+    }
+  }
+}
@@ -0,0 +1,90 @@
+package org.csplib.tools;
+
+/**
+ *
+ * prob007, All-Interval Series, as modelled in
+ * Problems/prob007/models/AllInterval_*.java: x is a permutation of
+ * 0..n-1 and diffs[k] = |x[k+1] - x[k]| one of 1..n-1, with the
+ * symmetry breaking x[0] < x[n-1] and diffs[0] < diffs[1]. x is
+ * labelled in order, smallest value first. The variables are x[0..n-1]
+ * then diffs[0..n-2].
+ *
+ */
+public class AllIntervalSeries implements Definition {
+    final int n;
+
+    public AllIntervalSeries(int n) {
+        if (n < 3) {
+            throw new IllegalArgumentException("An all-interval series needs n >= 3, not " + n);
+        }
+        this.n = n;
+    }
+
+    public Model model() {
+        Model m = new Model("AllInterval" + n);
+        int[] x = m.vars("x", n, 0, n - 1);
+        int[] diffs = m.vars("diffs", n - 1, 1, n - 1);
+        m.allDifferent(x);
+        m.allDifferent(diffs);
+        for (int k = 0; k < n - 1; k++) {
+            m.absDifference(diffs[k], x[k + 1], x[k]);
+        }
+        m.less(x[0], x[n - 1]);
+        m.less(diffs[0], diffs[1]);
+        m.phase(x, Model.Order.INPUT_ORDER);
+        return m;
+    }
+
+    /** O(n): each of 0..n-1 once, neighbours apart by each of 1..n-1 once. */
+    public boolean check(int[] values) {
+        boolean[] value = new boolean[n];
+        boolean[] interval = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            int v = values[i];
+            if (v < 0 || v >= n || value[v]) {
+                return false;
+            }
+            value[v] = true;
+            if (i > 0) {
+                int d = Math.abs(v - values[i - 1]);
+                if (d == 0 || interval[d]) {
+                    return false;
+                }
+                interval[d] = true;
+            }
+        }
+        return true;
+    }
+
+    /** prefix is x[0..k-1]: v must be a new value and |v - x[k-1]| a new interval. */
+    public boolean fits(int[] prefix, int v) {
+        int k = prefix.length;
+        for (int i = 0; i < k; i++) {
+            if (prefix[i] == v) {
+                return false;
+            }
+        }
+        if (k == 0) {
+            return true;
+        }
+        int d = Math.abs(v - prefix[k - 1]);
+        for (int i = 1; i < k; i++) {
+            if (Math.abs(prefix[i] - prefix[i - 1]) == d) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String format(int[] values) {
+        StringBuilder out = new StringBuilder("x    : ");
+        for (int i = 0; i < n; i++) {
+            out.append(values[i]).append(' ');
+        }
+        out.append("\ndiffs: ");
+        for (int k = 0; k < n - 1; k++) {
+            out.append(Math.abs(values[k + 1] - values[k])).append(' ');
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,52 @@
+package org.csplib.tools;
+
+/**
+ *
+ * A solver a Model can run on. load posts the model to a new instance
+ * of the solver; search then labels it phase by phase and passes every
+ * solution to a Sink.
+ *
+ */
+public interface Backend {
+
+    /** Receives each solution; returns false to stop the search. */
+    interface Sink {
+        boolean solution(int[] values);
+    }
+
+    /** A model posted to one solver, searched at most once. */
+    interface Instance {
+        Stats search(boolean all, Sink sink);
+
+        /** All solutions, one at a time, instead of search. */
+        default Cursor solutions() {
+            return new ThreadCursor(this);
+        }
+    }
+
+    String[] NAMES = { "jacop", "ortools", "jsr331" };
+
+    String name();
+
+    Instance load(Model model);
+
+    /**
+     *
+     * The backend of the given name: jacop, ortools or jsr331. Each is
+     * created only when asked for, so only its solver has to be on the
+     * classpath.
+     *
+     */
+    static Backend of(String name) {
+        switch (name) {
+        case "jacop":
+            return new JaCoPBackend();
+        case "ortools":
+            return new OrToolsBackend();
+        case "jsr331":
+            return new Jsr331Backend();
+        default:
+            throw new IllegalArgumentException("No backend " + name + ", use jacop, ortools or jsr331");
+        }
+    }
+}
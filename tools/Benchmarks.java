@@ -0,0 +1,93 @@
+package org.csplib.tools;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ *
+ * Runs the JMH benchmarks of the Java models and writes each problem's
+ * results as JSON to Problems/<problem>/results/benchmark.json:
+ *   prob007   ModelBenchmark, allinterval:8, 10 and 12, all solutions,
+ *             every backend
+ *   prob009   ModelBenchmark, instance 0 of prob009.java, first
+ *             solution, on JaCoP and OR-tools (JSR-331 posts diff2 as
+ *             O(n^2) disjunctions and is left out)
+ *   prob041   ModelBenchmark, fractions, all solutions, every backend
+ *   prob049   SetPartitionBenchmark (prob049/tools), both models
+ *   prob054   NQueensBenchmark (prob054/tools), both models
+ *
+ * The benchmarks are compiled with jmh-core and
+ * jmh-generator-annprocess on the classpath, which generates the
+ * benchmark code, together with the models they use:
+ *   javac -cp jmh-core.jar:jmh-generator-annprocess.jar:jacop-4.4.0.jar:com.google.ortools.jar:jsr331.jar \
+ *     -d classes tools/*.java Problems/prob049/models/SetPartition_jsr331.java \
+ *     Problems/prob049/tools/SetPartitionBenchmark.java Problems/prob054/models/NQueens*_ortools.java \
+ *     Problems/prob054/tools/NQueensBenchmark.java
+ *
+ * Usage:
+ *   Benchmarks [repository root, default .] [problem ...]
+ * e.g.
+ *   java -cp classes:jmh-core.jar:... org.csplib.tools.Benchmarks . prob007 prob054
+ *
+ */
+public class Benchmarks {
+
+    static final List<String> PROBLEMS = Arrays.asList("prob007", "prob009", "prob041", "prob049", "prob054");
+
+    static ChainedOptionsBuilder suite(String problem) {
+        ChainedOptionsBuilder options = new OptionsBuilder();
+        switch (problem) {
+        case "prob007":
+            return options.include("\\.ModelBenchmark\\.")
+                    .param("definition", "allinterval:8", "allinterval:10", "allinterval:12")
+                    .param("all", "true");
+        case "prob009":
+            return options.include("\\.ModelBenchmark\\.")
+                    .param("definition", "squares:112,2,4,6,7,8,9,11,15,16,17,18,19,24,25,27,29,33,35,37,42,50")
+                    .param("backend", "jacop", "ortools")
+                    .param("all", "false");
+        case "prob041":
+            return options.include("\\.ModelBenchmark\\.")
+                    .param("definition", "fractions")
+                    .param("all", "true");
+        case "prob049":
+            return options.include("\\.SetPartitionBenchmark\\.");
+        default:
+            return options.include("\\.NQueensBenchmark\\.");
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String root = args.length > 0 ? args[0] : ".";
+        List<String> problems = args.length > 1 ? Arrays.asList(args).subList(1, args.length) : PROBLEMS;
+        for (String problem : problems) {
+            if (!PROBLEMS.contains(problem)) {
+                System.err.println("No benchmark for " + problem + ", use " + PROBLEMS);
+                System.exit(1);
+            }
+        }
+        for (String problem : problems) {
+            File results = new File(root, "Problems/" + problem + "/results");
+            if (!results.isDirectory()) {
+                System.err.println("No directory " + results + ", give the repository root as first argument");
+                System.exit(1);
+            }
+        }
+
+        for (String problem : problems) {
+            File json = new File(root, "Problems/" + problem + "/results/benchmark.json");
+            new Runner(suite(problem)
+                    .result(json.getPath())
+                    .resultFormat(ResultFormatType.JSON)
+                    .build()).run();
+            System.out.println("Results: " + json);
+        }
+    }
+}
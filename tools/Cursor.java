@@ -0,0 +1,19 @@
+package org.csplib.tools;
+
+/**
+ *
+ * A search read one solution at a time: the search only runs while
+ * next is being called, so a slow reader slows it down.
+ *
+ */
+public interface Cursor {
+
+    /** Searches for the next solution; false when there is none left. */
+    boolean next();
+
+    /** The solution next found, valid until next is called again. */
+    int[] values();
+
+    /** Ends the search, also when it has not run out; called once. */
+    void close();
+}
@@ -0,0 +1,82 @@
+package org.csplib.tools;
+
+/**
+ *
+ * A problem instance declared once for every backend: the model, a
+ * check of its solutions and how to print one. values are indexed by
+ * the model's variables.
+ *
+ */
+public interface Definition {
+
+    Model model();
+
+    boolean check(int[] values);
+
+    String format(int[] values);
+
+    /** The variables a search is split on, in order; the first phase's by default. */
+    default int[] split(Model model) {
+        return model.phases().get(0).vars;
+    }
+
+    /**
+     *
+     * Whether the split variables fixed to prefix and the next one to
+     * v can still be part of a solution: a cheap filter before a
+     * subtree is searched, none by default.
+     *
+     */
+    default boolean fits(int[] prefix, int v) {
+        return true;
+    }
+
+    /**
+     *
+     * The definition a name stands for:
+     *   allinterval:n             prob007, an all-interval series of length n
+     *   squares:N,s1,s2,...       prob009, squares of sizes s1.. in an N x N square
+     *   squares:file[:line]       prob009, the instance on line line (default 0)
+     *                             of a file written by InstanceGenerator
+     *   fractions                 prob041
+     *   setpartition:n[,sets[,degree]]
+     *                             prob049, {1..n} into sets (default 2) sets of
+     *                             equal power sums up to degree (default 2)
+     *   queens:n                  prob054
+     *
+     */
+    static Definition of(String name) {
+        int colon = name.indexOf(':');
+        String kind = colon < 0 ? name : name.substring(0, colon);
+        String arg = colon < 0 ? null : name.substring(colon + 1);
+        switch (kind) {
+        case "allinterval":
+            if (arg == null || !arg.matches("\\d{1,4}")) {
+                throw new IllegalArgumentException("allinterval needs a length, e.g. allinterval:12");
+            }
+            return new AllIntervalSeries(Integer.parseInt(arg));
+        case "squares":
+            if (arg == null) {
+                throw new IllegalArgumentException("squares needs an instance, e.g. squares:112,2,4,6,7,8,9,11,15,16,17,18,19,24,25,27,29,33,35,37,42,50");
+            }
+            return SquarePlacement.parse(arg);
+        case "fractions":
+            return new Fractions();
+        case "setpartition":
+            if (arg == null || !arg.matches("\\d{1,4}(,\\d{1,2}){0,2}")) {
+                throw new IllegalArgumentException("setpartition needs n[,sets[,degree]], e.g. setpartition:16");
+            }
+            String[] f = arg.split(",");
+            return new SetPartition(Integer.parseInt(f[0]), f.length > 1 ? Integer.parseInt(f[1]) : 2,
+                    f.length > 2 ? Integer.parseInt(f[2]) : 2);
+        case "queens":
+            if (arg == null || !arg.matches("\\d{1,4}")) {
+                throw new IllegalArgumentException("queens needs n, e.g. queens:8");
+            }
+            return new Queens(Integer.parseInt(arg));
+        default:
+            throw new IllegalArgumentException("No problem " + kind
+                    + ", use allinterval:n, squares:instance, fractions, setpartition:n or queens:n");
+        }
+    }
+}
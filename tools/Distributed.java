@@ -0,0 +1,440 @@
+package org.csplib.tools;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ *
+ * Enumerates all solutions of a Definition with several worker
+ * processes, so the enumeration is not bound to one JVM's heap. Any
+ * definition runs on any backend: AllInterval (prob007), the square
+ * placement of prob009 (split on X of the largest squares first),
+ * SetPartition (prob049, split on the sets of 1, 2, ...) and N Queens
+ * (prob054) among them.
+ *
+ * The search is split into subtrees by fixing the definition's split
+ * variables in order (a prefix), each subtree a new model with the
+ * prefix posted as equalities. The coordinator starts with prefixes
+ * long enough to give every worker 4 subtrees, and talks to the
+ * workers over their stdin/stdout with one text line per message, so a
+ * worker can as well be started on another host (a launcher after --,
+ * e.g. "-- ssh host java -cp ... org.csplib.tools.Distributed worker";
+ * an instance file must then be at the same path there):
+ *   coordinator -> worker   model backend definition | solutions
+ *                           | job p0 p1 ... | steal | quit
+ *   worker -> coordinator   @solution v0 v1 ...
+ *                           @done solutions nodes failures
+ *                           @error message
+ *                           @stolen p0 p1 ...;p0 p1 ...;...
+ * A worker expands its job by one more variable and searches the
+ * subtrees one at a time. When the coordinator has no job left for an
+ * idle worker, it asks a busy worker to give away half of the subtrees
+ * it has not started yet, and hands them out again.
+ *
+ * Partial counts are summed at the coordinator; nodes and failures are
+ * -1 when the backend does not count them. With solutions=file the
+ * workers also send every solution (checked, the values of all the
+ * model's variables), and the coordinator merges them into file, one
+ * per line, and checks that it got as many as were counted.
+ *
+ * Usage: Distributed <definition> [workers] [backend=jacop|ortools|jsr331]
+ *                    [solutions=file] [-- launcher ...]
+ *        Distributed worker
+ * with a definition as in Definition.of; the backend is jacop by
+ * default. The default launcher is this JVM with the same class and
+ * library path. The launcher is taken word for word from the arguments
+ * after --, so its paths may hold spaces.
+ *
+ */
+public class Distributed {
+
+    /**
+     * Returns {solutions, nodes, failures} of the subtree where the
+     * first prefix.length split variables are fixed to prefix. Every
+     * solution is checked and, when solutions is not null, added to it.
+     */
+    static long[] search(Definition d, Backend backend, int[] prefix, List<int[]> solutions) {
+        Model model = d.model();
+        int[] split = d.split(model);
+        for (int i = 0; i < prefix.length; i++) {
+            model.equal(split[i], prefix[i]);
+        }
+        Stats stats = backend.load(model).search(true, values -> {
+            if (!d.check(values)) {
+                throw new IllegalStateException("invalid solution: " + d.format(values));
+            }
+            if (solutions != null) {
+                solutions.add(values.clone());
+            }
+            return true;
+        });
+        return new long[] { stats.solutions, stats.nodes, stats.failures };
+    }
+
+    /** Adds r to total, where -1 is unknown and stays so. */
+    static void add(long[] total, long[] r) {
+        for (int i = 0; i < total.length; i++) {
+            total[i] = total[i] < 0 || r[i] < 0 ? -1 : total[i] + r[i];
+        }
+    }
+
+    /** The prefixes one variable longer than prefix that fit. */
+    static List<int[]> children(Definition d, Model model, int[] prefix) {
+        List<int[]> children = new ArrayList<>();
+        int[] split = d.split(model);
+        int k = prefix.length;
+        if (k == split.length) {
+            children.add(prefix);
+            return children;
+        }
+        for (int v = model.min(split[k]); v <= model.max(split[k]); v++) {
+            if (d.fits(prefix, v)) {
+                int[] child = Arrays.copyOf(prefix, k + 1);
+                child[k] = v;
+                children.add(child);
+            }
+        }
+        return children;
+    }
+
+    static String format(int[] prefix) {
+        StringBuilder s = new StringBuilder();
+        for (int i = 0; i < prefix.length; i++) {
+            if (i > 0) {
+                s.append(' ');
+            }
+            s.append(prefix[i]);
+        }
+        return s.toString();
+    }
+
+    static int[] parse(String s) {
+        s = s.trim();
+        if (s.isEmpty()) {
+            return new int[0];
+        }
+        String[] f = s.split(" ");
+        int[] prefix = new int[f.length];
+        for (int i = 0; i < f.length; i++) {
+            prefix[i] = Integer.parseInt(f[i]);
+        }
+        return prefix;
+    }
+
+    //
+    // worker
+    //
+
+    static void worker() throws IOException {
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+        final PrintStream out = System.out;
+        final Definition[] definition = new Definition[1];
+        final Model[] model = new Model[1];
+        final Backend[] backend = new Backend[1];
+        final boolean[] send = new boolean[1];
+        // subtrees of the current job that are not started yet
+        final Deque<int[]> pending = new ArrayDeque<>();
+        ExecutorService search = Executors.newSingleThreadExecutor();
+
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.startsWith("model ")) {
+                // the definition is the rest of the line, as a file name may hold spaces
+                String[] f = line.split(" ", 3);
+                backend[0] = Backend.of(f[1]);
+                definition[0] = Definition.of(f[2]);
+                model[0] = definition[0].model();
+            } else if (line.equals("solutions")) {
+                send[0] = true;
+            } else if (line.startsWith("job")) {
+                synchronized (pending) {
+                    pending.addAll(children(definition[0], model[0], parse(line.substring(3))));
+                }
+                search.submit(() -> {
+                    long[] total = new long[3];
+                    List<int[]> solutions = send[0] ? new ArrayList<>() : null;
+                    String reply;
+                    try {
+                        while (true) {
+                            int[] prefix;
+                            synchronized (pending) {
+                                prefix = pending.pollFirst();
+                            }
+                            if (prefix == null) {
+                                break;
+                            }
+                            add(total, search(definition[0], backend[0], prefix, solutions));
+                            if (solutions != null) {
+                                synchronized (out) {
+                                    for (int[] sol : solutions) {
+                                        out.println("@solution " + format(sol));
+                                    }
+                                }
+                                solutions.clear();
+                            }
+                        }
+                        reply = "@done " + total[0] + " " + total[1] + " " + total[2];
+                    } catch (Throwable e) {
+                        // the coordinator would otherwise wait for @done forever
+                        reply = "@error " + e;
+                    }
+                    synchronized (out) {
+                        out.println(reply);
+                        out.flush();
+                    }
+                });
+            } else if (line.equals("steal")) {
+                StringBuilder reply = new StringBuilder("@stolen ");
+                synchronized (pending) {
+                    // the subtrees at the back are the ones this worker reaches last
+                    for (int k = pending.size() / 2; k > 0; k--) {
+                        reply.append(format(pending.pollLast())).append(';');
+                    }
+                }
+                synchronized (out) {
+                    out.println(reply);
+                    out.flush();
+                }
+            } else if (line.equals("quit")) {
+                break;
+            }
+        }
+        search.shutdown();
+    }
+
+    //
+    // coordinator
+    //
+
+    static class Worker {
+        final int id;
+        final Process process;
+        final PrintStream in;
+        boolean busy;
+        boolean asked;
+
+        Worker(int id, List<String> command, final BlockingQueue<String[]> events) throws IOException {
+            this.id = id;
+            process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+            in = new PrintStream(process.getOutputStream(), true);
+            final BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream()));
+            final String name = "" + id;
+            Thread reader = new Thread(() -> {
+                try {
+                    String line;
+                    while ((line = out.readLine()) != null) {
+                        if (line.startsWith("@")) {
+                            events.add(new String[] { name, line });
+                        }
+                    }
+                } catch (IOException e) {
+                }
+                events.add(new String[] { name, "@exit" });
+            });
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        void send(String message) {
+            in.println(message);
+        }
+    }
+
+    /**
+     * Returns {solutions, nodes, failures}; merges the solutions into
+     * solutions when that is not null.
+     */
+    static long[] coordinate(String definition, String backend, int workers, List<String> command,
+            PrintWriter solutions) throws IOException, InterruptedException {
+        Definition d = Definition.of(definition);
+        Model model = d.model();
+        Deque<int[]> jobs = new ArrayDeque<>();
+        jobs.add(new int[0]);
+        // split until every worker gets 4 subtrees, or the prefixes are complete
+        while (jobs.size() < 4 * workers && jobs.peekFirst().length < d.split(model).length) {
+            Deque<int[]> next = new ArrayDeque<>();
+            for (int[] prefix : jobs) {
+                next.addAll(children(d, model, prefix));
+            }
+            jobs = next;
+        }
+
+        BlockingQueue<String[]> events = new LinkedBlockingQueue<>();
+        Worker[] pool = new Worker[workers];
+        for (int i = 0; i < workers; i++) {
+            pool[i] = new Worker(i, command, events);
+            pool[i].send("model " + backend + " " + definition);
+            if (solutions != null) {
+                pool[i].send("solutions");
+            }
+        }
+
+        long[] total = new long[3];
+        long merged = 0;
+        int busy = 0;
+        int steals = 0;
+        int stolen = 0;
+        while (true) {
+            // hand out jobs, and ask for more where there are none
+            for (Worker w : pool) {
+                if (!w.busy && !jobs.isEmpty()) {
+                    w.send("job " + format(jobs.pollFirst()));
+                    w.busy = true;
+                    w.asked = false;
+                    busy++;
+                }
+            }
+            if (busy == 0) {
+                break;
+            }
+            if (busy < workers && jobs.isEmpty()) {
+                for (Worker w : pool) {
+                    if (w.busy && !w.asked) {
+                        w.send("steal");
+                        w.asked = true;
+                        steals++;
+                        break;
+                    }
+                }
+            }
+
+            String[] event = events.take();
+            Worker w = pool[Integer.parseInt(event[0])];
+            String message = event[1];
+            if (message.startsWith("@solution")) {
+                if (solutions != null) {
+                    solutions.println(message.substring(10));
+                }
+                merged++;
+            } else if (message.startsWith("@done")) {
+                String[] f = message.split(" ");
+                add(total, new long[] { Long.parseLong(f[1]), Long.parseLong(f[2]), Long.parseLong(f[3]) });
+                w.busy = false;
+                busy--;
+            } else if (message.startsWith("@stolen")) {
+                for (String prefix : message.substring(7).split(";")) {
+                    if (!prefix.trim().isEmpty()) {
+                        jobs.addLast(parse(prefix));
+                        stolen++;
+                    }
+                }
+            } else if (message.startsWith("@error") || message.equals("@exit")) {
+                for (Worker other : pool) {
+                    other.process.destroy();
+                }
+                throw new IllegalStateException("worker " + w.id + ": " + message.substring(1));
+            }
+        }
+
+        for (Worker w : pool) {
+            w.send("quit");
+            w.process.waitFor();
+        }
+        if (solutions != null && merged != total[0]) {
+            throw new IllegalStateException("merged " + merged + " solutions of " + total[0]);
+        }
+        System.out.println("Steals: " + steals + ", subtrees stolen: " + stolen);
+        return total;
+    }
+
+    static void usage(String problem) {
+        System.err.println(problem);
+        System.err.println("Arguments: <definition> [workers] [backend=jacop|ortools|jsr331] [solutions=file] [-- launcher ...]");
+        System.err.println("       or: worker");
+        System.exit(1);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length > 0 && args[0].equals("worker")) {
+            worker();
+            return;
+        }
+
+        int workers = Runtime.getRuntime().availableProcessors();
+        String backend = "jacop";
+        File file = null;
+        List<String> command = new ArrayList<>();
+
+        List<String> positional = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--")) {
+                command.addAll(Arrays.asList(args).subList(i + 1, args.length));
+                break;
+            } else if (args[i].startsWith("backend=")) {
+                backend = args[i].substring(8);
+            } else if (args[i].startsWith("solutions=")) {
+                file = new File(args[i].substring(10));
+            } else {
+                positional.add(args[i]);
+            }
+        }
+        if (positional.isEmpty() || positional.size() > 2) {
+            usage("Expected a definition and optionally the number of workers");
+        }
+        String definition = positional.get(0);
+        try {
+            Definition.of(definition);
+            Backend.of(backend);
+        } catch (IllegalArgumentException e) {
+            usage(e.getMessage());
+        }
+        if (positional.size() > 1) {
+            if (!positional.get(1).matches("\\d{1,4}") || Integer.parseInt(positional.get(1)) == 0) {
+                usage("Invalid number of workers " + positional.get(1));
+            }
+            workers = Integer.parseInt(positional.get(1));
+        }
+
+        if (command.isEmpty()) {
+            command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add("-Djava.library.path=" + System.getProperty("java.library.path"));
+            command.add(Distributed.class.getName());
+            command.add("worker");
+        }
+
+        long start = System.currentTimeMillis();
+        PrintWriter solutions = file == null ? null : new PrintWriter(new BufferedWriter(new FileWriter(file)));
+        long[] total;
+        try {
+            total = coordinate(definition, backend, workers, command, solutions);
+        } finally {
+            if (solutions != null) {
+                solutions.close();
+            }
+        }
+
+        System.out.println("Definition: " + definition);
+        System.out.println("Backend: " + backend);
+        System.out.println("Workers: " + workers);
+        System.out.println("Solutions: " + total[0]);
+        if (total[1] >= 0) {
+            System.out.println("Nodes: " + total[1]);
+        }
+        if (total[2] >= 0) {
+            System.out.println("Failures: " + total[2]);
+        }
+        if (file != null) {
+            System.out.println("Solutions merged into " + file);
+        }
+        System.out.println("Wall time: " + (System.currentTimeMillis() - start) + "ms");
+    }
+}
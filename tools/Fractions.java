@@ -0,0 +1,75 @@
+package org.csplib.tools;
+
+/**
+ *
+ * prob041, the fractions puzzle, as modelled in
+ * Problems/prob041/models/fractions_JaCoP.java: distinct digits A..I
+ * in 1..9 with A/BC + D/EF + G/HI = 1, multiplied out over the
+ * products of the two-digit numbers, and A < D < G against the
+ * symmetry. The digits, the first nine variables, are labelled in
+ * order, smallest value first.
+ *
+ */
+public class Fractions implements Definition {
+
+    public Model model() {
+        Model m = new Model("Fractions");
+        int[] d = new int[9];
+        for (int i = 0; i < 9; i++) {
+            d[i] = m.var(String.valueOf((char) ('A' + i)), 1, 9);
+        }
+        m.allDifferent(d);
+
+        // BC = 10*B + C, EF = 10*E + F, HI = 10*H + I
+        int bc = m.var("BC", 11, 99);
+        int ef = m.var("EF", 11, 99);
+        int hi = m.var("HI", 11, 99);
+        m.linear(new int[] { 10, 1, -1 }, new int[] { d[1], d[2], bc }, 0);
+        m.linear(new int[] { 10, 1, -1 }, new int[] { d[4], d[5], ef }, 0);
+        m.linear(new int[] { 10, 1, -1 }, new int[] { d[7], d[8], hi }, 0);
+
+        int bcef = m.var("BCEF", 121, 9801);
+        int efhi = m.var("EFHI", 121, 9801);
+        int hibc = m.var("HIBC", 121, 9801);
+        int bcefhi = m.var("BCEFHI", 1331, 970299);
+        m.times(bcef, bc, ef);
+        m.times(efhi, ef, hi);
+        m.times(hibc, hi, bc);
+        m.times(bcefhi, hibc, ef);
+
+        // A*EF*HI + D*HI*BC + G*BC*EF = BC*EF*HI
+        int a = m.var("AEFHI", 121, 88209);
+        int b = m.var("DHIBC", 121, 88209);
+        int c = m.var("GBCEF", 121, 88209);
+        m.times(a, d[0], efhi);
+        m.times(b, d[3], hibc);
+        m.times(c, d[6], bcef);
+        m.linear(new int[] { 1, 1, 1, -1 }, new int[] { a, b, c, bcefhi }, 0);
+
+        m.less(d[0], d[3]);
+        m.less(d[3], d[6]);
+        m.phase(d, Model.Order.INPUT_ORDER);
+        return m;
+    }
+
+    /** Distinct non-zero digits and the equation in exact integer arithmetic. */
+    public boolean check(int[] values) {
+        boolean[] seen = new boolean[10];
+        for (int i = 0; i < 9; i++) {
+            int x = values[i];
+            if (x < 1 || x > 9 || seen[x]) {
+                return false;
+            }
+            seen[x] = true;
+        }
+        long bc = 10 * values[1] + values[2];
+        long ef = 10 * values[4] + values[5];
+        long hi = 10 * values[7] + values[8];
+        return values[0] * ef * hi + values[3] * bc * hi + values[6] * bc * ef == bc * ef * hi;
+    }
+
+    public String format(int[] values) {
+        return values[0] + "/" + values[1] + values[2] + " + " + values[3] + "/" + values[4] + values[5]
+                + " + " + values[6] + "/" + values[7] + values[8] + " = 1";
+    }
+}
@@ -0,0 +1,169 @@
+package org.csplib.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jacop.constraints.AbsXeqY;
+import org.jacop.constraints.Alldistinct;
+import org.jacop.constraints.Cumulative;
+import org.jacop.constraints.Diff2;
+import org.jacop.constraints.SumWeight;
+import org.jacop.constraints.XltY;
+import org.jacop.constraints.XminusYeqZ;
+import org.jacop.constraints.XmulYeqZ;
+import org.jacop.core.IntVar;
+import org.jacop.core.Store;
+import org.jacop.search.DepthFirstSearch;
+import org.jacop.search.IndomainMin;
+import org.jacop.search.InputOrderSelect;
+import org.jacop.search.Search;
+import org.jacop.search.SelectChoicePoint;
+import org.jacop.search.SimpleSelect;
+import org.jacop.search.SimpleSolutionListener;
+import org.jacop.search.SmallestDomain;
+import org.jacop.search.SmallestMin;
+
+/**
+ *
+ * Runs a Model on JaCoP (v4.4.0), with the constraints the JaCoP
+ * models in Problems/ use: Alldistinct, XminusYeqZ with AbsXeqY,
+ * XltY, SumWeight, XmulYeqZ, Diff2 and Cumulative. Each phase is a
+ * DepthFirstSearch, the next one its child search, as in prob009.
+ *
+ */
+public class JaCoPBackend implements Backend {
+
+    public String name() {
+        return "jacop";
+    }
+
+    public Instance load(Model model) {
+        Store store = new Store();
+        IntVar[] v = new IntVar[model.size()];
+        for (int i = 0; i < v.length; i++) {
+            v[i] = new IntVar(store, model.name(i), model.min(i), model.max(i));
+        }
+        for (Model.Constraint c : model.constraints()) {
+            switch (c.kind) {
+            case ALL_DIFFERENT:
+                store.impose(new Alldistinct(vars(v, c.vars, 0, c.vars.length)));
+                break;
+            case ABS_DIFFERENCE: {
+                IntVar x = v[c.vars[1]];
+                IntVar y = v[c.vars[2]];
+                IntVar d = new IntVar(store, x.min() - y.max(), x.max() - y.min());
+                store.impose(new XminusYeqZ(x, y, d));
+                store.impose(new AbsXeqY(d, v[c.vars[0]]));
+                break;
+            }
+            case LESS:
+                store.impose(new XltY(v[c.vars[0]], v[c.vars[1]]));
+                break;
+            case LINEAR: {
+                int n = c.vars.length;
+                int[] weights = new int[n];
+                System.arraycopy(c.args, 0, weights, 0, n);
+                store.impose(new SumWeight(vars(v, c.vars, 0, n), weights, new IntVar(store, c.args[n], c.args[n])));
+                break;
+            }
+            case TIMES:
+                store.impose(new XmulYeqZ(v[c.vars[1]], v[c.vars[2]], v[c.vars[0]]));
+                break;
+            case DIFF2: {
+                int n = c.args.length;
+                IntVar[] sizes = constants(store, c.args, 0, n);
+                store.impose(new Diff2(vars(v, c.vars, 0, n), vars(v, c.vars, n, n), sizes, sizes));
+                break;
+            }
+            case CUMULATIVE: {
+                int n = c.vars.length;
+                store.impose(new Cumulative(vars(v, c.vars, 0, n), constants(store, c.args, 0, n),
+                        constants(store, c.args, n, n), new IntVar(store, c.args[2 * n], c.args[2 * n])));
+                break;
+            }
+            }
+        }
+        return (all, sink) -> search(store, model, v, all, sink);
+    }
+
+    static Stats search(Store store, Model model, IntVar[] v, boolean all, Sink sink) {
+        if (model.phases().isEmpty()) {
+            throw new IllegalArgumentException(model.name + " has no phases to search");
+        }
+        List<Search<IntVar>> searches = new ArrayList<>();
+        List<SelectChoicePoint<IntVar>> selects = new ArrayList<>();
+        for (Model.Phase phase : model.phases()) {
+            IntVar[] vars = vars(v, phase.vars, 0, phase.vars.length);
+            SelectChoicePoint<IntVar> select;
+            switch (phase.order) {
+            case MIN_DOMAIN:
+                select = new SimpleSelect<>(vars, new SmallestDomain<>(), new IndomainMin<>());
+                break;
+            case SMALLEST_MIN:
+                select = new SimpleSelect<>(vars, new SmallestMin<>(), new SmallestDomain<>(), new IndomainMin<>());
+                break;
+            default:
+                select = new InputOrderSelect<>(store, vars, new IndomainMin<>());
+                break;
+            }
+            Search<IntVar> search = new DepthFirstSearch<>();
+            search.setPrintInfo(false);
+            if (!searches.isEmpty()) {
+                search.setSelectChoicePoint(select);
+                searches.get(searches.size() - 1).addChildSearch(search);
+            }
+            searches.add(search);
+            selects.add(select);
+        }
+
+        // solutions are complete in the last phase; a false from the
+        // sink stops the search through the root's solution limit
+        Search<IntVar> root = searches.get(0);
+        int[] values = new int[v.length];
+        long[] found = new long[1];
+        searches.get(searches.size() - 1).setSolutionListener(new SimpleSolutionListener<IntVar>() {
+            @Override
+            public boolean executeAfterSolution(Search<IntVar> search, SelectChoicePoint<IntVar> select) {
+                for (int i = 0; i < v.length; i++) {
+                    values[i] = v[i].min();
+                }
+                found[0]++;
+                if (!sink.solution(values)) {
+                    root.getSolutionListener().setSolutionLimit(root.getSolutionListener().solutionsNo() + 1);
+                }
+                return super.executeAfterSolution(search, select);
+            }
+        });
+        if (all) {
+            root.getSolutionListener().searchAll(true);
+        }
+
+        long start = System.currentTimeMillis();
+        root.labeling(store, selects.get(0));
+        long searchTime = System.currentTimeMillis() - start;
+
+        long nodes = 0;
+        long failures = 0;
+        for (Search<IntVar> search : searches) {
+            nodes += search.getNodes();
+            failures += search.getWrongDecisions();
+        }
+        return new Stats(found[0], nodes, failures, searchTime);
+    }
+
+    static IntVar[] vars(IntVar[] v, int[] index, int from, int n) {
+        IntVar[] vars = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            vars[i] = v[index[from + i]];
+        }
+        return vars;
+    }
+
+    static IntVar[] constants(Store store, int[] values, int from, int n) {
+        IntVar[] c = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            c[i] = new IntVar(store, values[from + i], values[from + i]);
+        }
+        return c;
+    }
+}
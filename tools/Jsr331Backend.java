@@ -0,0 +1,167 @@
+package org.csplib.tools;
+
+import javax.constraints.Problem;
+import javax.constraints.ProblemFactory;
+import javax.constraints.SearchStrategy;
+import javax.constraints.Solution;
+import javax.constraints.SolutionIterator;
+import javax.constraints.ValueSelectorType;
+import javax.constraints.Var;
+import javax.constraints.VarSelectorType;
+
+/**
+ *
+ * Runs a Model on whichever JSR-331 implementation is on the
+ * classpath. JSR-331 has no diff2 and no cumulative: diff2 is posted
+ * as a disjunction per pair of squares (left of, right of, below or
+ * above), a redundant cumulative is left out and any other one is
+ * rejected. The first phase is the solver's search strategy, the
+ * others are added after it. JSR-331 has no standard way to read the
+ * number of nodes or failures, so neither is reported.
+ *
+ */
+public class Jsr331Backend implements Backend {
+
+    public String name() {
+        return "jsr331";
+    }
+
+    public Instance load(Model model) {
+        Problem p = ProblemFactory.newProblem(model.name);
+        Var[] v = new Var[model.size()];
+        for (int i = 0; i < v.length; i++) {
+            v[i] = p.variable(model.name(i), model.min(i), model.max(i));
+        }
+        for (Model.Constraint c : model.constraints()) {
+            switch (c.kind) {
+            case ALL_DIFFERENT:
+                p.postAllDifferent(vars(v, c.vars, 0, c.vars.length));
+                break;
+            case ABS_DIFFERENCE:
+                p.post(v[c.vars[1]].minus(v[c.vars[2]]).abs(), "=", v[c.vars[0]]);
+                break;
+            case LESS:
+                p.post(v[c.vars[0]], "<", v[c.vars[1]]);
+                break;
+            case LINEAR: {
+                int n = c.vars.length;
+                int[] coefficients = new int[n];
+                System.arraycopy(c.args, 0, coefficients, 0, n);
+                p.post(coefficients, vars(v, c.vars, 0, n), "=", c.args[n]);
+                break;
+            }
+            case TIMES:
+                p.post(v[c.vars[1]].multiply(v[c.vars[2]]), "=", v[c.vars[0]]);
+                break;
+            case DIFF2: {
+                int n = c.args.length;
+                for (int i = 0; i < n; i++) {
+                    for (int j = i + 1; j < n; j++) {
+                        Var xi = v[c.vars[i]], yi = v[c.vars[n + i]];
+                        Var xj = v[c.vars[j]], yj = v[c.vars[n + j]];
+                        p.post(p.linear(xi.plus(c.args[i]), "<=", xj)
+                                .or(p.linear(xj.plus(c.args[j]), "<=", xi))
+                                .or(p.linear(yi.plus(c.args[i]), "<=", yj))
+                                .or(p.linear(yj.plus(c.args[j]), "<=", yi)));
+                    }
+                }
+                break;
+            }
+            case CUMULATIVE:
+                if (!c.redundant) {
+                    throw new UnsupportedOperationException("JSR-331 has no cumulative constraint");
+                }
+                break;
+            }
+        }
+        return new Instance() {
+            public Stats search(boolean all, Sink sink) {
+                return Jsr331Backend.search(p, model, v, all, sink);
+            }
+
+            public Cursor solutions() {
+                return Jsr331Backend.solutions(p, model, v);
+            }
+        };
+    }
+
+    static SolutionIterator phases(Problem p, Model model, Var[] v) {
+        if (model.phases().isEmpty()) {
+            throw new IllegalArgumentException(model.name + " has no phases to search");
+        }
+        javax.constraints.Solver solver = p.getSolver();
+        for (int i = 0; i < model.phases().size(); i++) {
+            Model.Phase phase = model.phases().get(i);
+            SearchStrategy strategy = i == 0 ? solver.getSearchStrategy() : solver.newSearchStrategy();
+            strategy.setVars(vars(v, phase.vars, 0, phase.vars.length));
+            switch (phase.order) {
+            case MIN_DOMAIN:
+                strategy.setVarSelectorType(VarSelectorType.MIN_DOMAIN);
+                break;
+            case SMALLEST_MIN:
+                strategy.setVarSelectorType(VarSelectorType.MIN_VALUE);
+                break;
+            default:
+                strategy.setVarSelectorType(VarSelectorType.INPUT_ORDER);
+                break;
+            }
+            strategy.setValueSelectorType(ValueSelectorType.MIN);
+            if (i > 0) {
+                solver.addSearchStrategy(strategy);
+            }
+        }
+        return solver.solutionIterator();
+    }
+
+    static Stats search(Problem p, Model model, Var[] v, boolean all, Sink sink) {
+        SolutionIterator iter = phases(p, model, v);
+        long start = System.currentTimeMillis();
+        int[] values = new int[v.length];
+        long found = 0;
+        while (iter.hasNext()) {
+            Solution solution = iter.next();
+            for (int i = 0; i < v.length; i++) {
+                values[i] = solution.getValue(model.name(i));
+            }
+            found++;
+            if (!sink.solution(values) || !all) {
+                break;
+            }
+        }
+        long searchTime = System.currentTimeMillis() - start;
+        return new Stats(found, -1, -1, searchTime);
+    }
+
+    // the iterator only searches when asked for the next solution
+    static Cursor solutions(Problem p, Model model, Var[] v) {
+        SolutionIterator iter = phases(p, model, v);
+        int[] values = new int[v.length];
+        return new Cursor() {
+            public boolean next() {
+                if (!iter.hasNext()) {
+                    return false;
+                }
+                Solution solution = iter.next();
+                for (int i = 0; i < v.length; i++) {
+                    values[i] = solution.getValue(model.name(i));
+                }
+                return true;
+            }
+
+            public int[] values() {
+                return values;
+            }
+
+            public void close() {
+            }
+        };
+    }
+
+    static Var[] vars(Var[] v, int[] index, int from, int n) {
+        Var[] vars = new Var[n];
+        for (int i = 0; i < n; i++) {
+            vars[i] = v[index[from + i]];
+        }
+        return vars;
+    }
+}
@@ -0,0 +1,192 @@
+package org.csplib.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *
+ * A model declared once, independently of any solver: integer
+ * variables, constraints over them and the search as a list of phases.
+ * A Backend posts it to its solver.
+ *
+ * Variables are numbered in the order they are declared, and every
+ * constraint and phase refers to them by that number. A solution is
+ * the value of every variable, indexed the same way; the phases must
+ * fix every variable a solution is read from, directly or through
+ * propagation.
+ *
+ * The constraints are the ones the problems in this repository need:
+ *   allDifferent   the variables take distinct values
+ *   absDifference  z = |x - y|
+ *   less           x < y
+ *   linear         sum of coefficient * variable = constant
+ *   times          z = x * y
+ *   diff2          squares at (x[i], y[i]) of fixed sizes do not overlap
+ *   cumulative     tasks of fixed durations and heights never use more
+ *                  than a capacity at once
+ * A constraint declared redundant only strengthens propagation; a
+ * backend without a matching constraint may leave it out.
+ *
+ */
+public class Model {
+
+    public enum Kind { ALL_DIFFERENT, ABS_DIFFERENCE, LESS, LINEAR, TIMES, DIFF2, CUMULATIVE }
+
+    /** Which unfixed variable of a phase is labelled next. */
+    public enum Order {
+        INPUT_ORDER,    // the first one
+        MIN_DOMAIN,     // the one with the fewest values left
+        SMALLEST_MIN    // the one with the smallest minimum, fewest values on a tie
+    }
+
+    /**
+     *
+     * One constraint: vars are the variables it is over, args its
+     * constant arguments (coefficients, sizes, the constant of a
+     * linear equation, ...), both in the order of the method that
+     * declared it.
+     *
+     */
+    public static class Constraint {
+        public final Kind kind;
+        public final int[] vars;
+        public final int[] args;
+        public final boolean redundant;
+
+        Constraint(Kind kind, int[] vars, int[] args, boolean redundant) {
+            this.kind = kind;
+            this.vars = vars;
+            this.args = args;
+            this.redundant = redundant;
+        }
+    }
+
+    /** Labels vars in order, each with its smallest value first. */
+    public static class Phase {
+        public final int[] vars;
+        public final Order order;
+
+        Phase(int[] vars, Order order) {
+            this.vars = vars;
+            this.order = order;
+        }
+    }
+
+    public final String name;
+    final List<String> names = new ArrayList<>();
+    final List<int[]> bounds = new ArrayList<>();
+    final List<Constraint> constraints = new ArrayList<>();
+    final List<Phase> phases = new ArrayList<>();
+
+    public Model(String name) {
+        this.name = name;
+    }
+
+    public int var(String name, int min, int max) {
+        if (min > max) {
+            throw new IllegalArgumentException("Empty domain " + min + ".." + max + " for " + name);
+        }
+        names.add(name);
+        bounds.add(new int[] { min, max });
+        return names.size() - 1;
+    }
+
+    public int[] vars(String prefix, int n, int min, int max) {
+        int[] v = new int[n];
+        for (int i = 0; i < n; i++) {
+            v[i] = var(prefix + i, min, max);
+        }
+        return v;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public String name(int var) {
+        return names.get(var);
+    }
+
+    public int min(int var) {
+        return bounds.get(var)[0];
+    }
+
+    public int max(int var) {
+        return bounds.get(var)[1];
+    }
+
+    public List<Constraint> constraints() {
+        return constraints;
+    }
+
+    public List<Phase> phases() {
+        return phases;
+    }
+
+    public void allDifferent(int... vars) {
+        add(Kind.ALL_DIFFERENT, vars, new int[0], false);
+    }
+
+    public void absDifference(int z, int x, int y) {
+        add(Kind.ABS_DIFFERENCE, new int[] { z, x, y }, new int[0], false);
+    }
+
+    public void less(int x, int y) {
+        add(Kind.LESS, new int[] { x, y }, new int[0], false);
+    }
+
+    public void linear(int[] coefficients, int[] vars, int constant) {
+        if (coefficients.length != vars.length) {
+            throw new IllegalArgumentException(coefficients.length + " coefficients for " + vars.length + " variables");
+        }
+        int[] args = new int[vars.length + 1];
+        System.arraycopy(coefficients, 0, args, 0, vars.length);
+        args[vars.length] = constant;
+        add(Kind.LINEAR, vars, args, false);
+    }
+
+    public void equal(int x, int value) {
+        linear(new int[] { 1 }, new int[] { x }, value);
+    }
+
+    public void times(int z, int x, int y) {
+        add(Kind.TIMES, new int[] { z, x, y }, new int[0], false);
+    }
+
+    /** vars are x[0..n-1] then y[0..n-1], args the n sizes. */
+    public void diff2(int[] x, int[] y, int[] sizes) {
+        if (x.length != sizes.length || y.length != sizes.length) {
+            throw new IllegalArgumentException("diff2 needs a size per square");
+        }
+        int[] vars = new int[2 * x.length];
+        System.arraycopy(x, 0, vars, 0, x.length);
+        System.arraycopy(y, 0, vars, x.length, y.length);
+        add(Kind.DIFF2, vars, sizes.clone(), false);
+    }
+
+    /** vars are the starts, args the n durations, the n heights, then the capacity. */
+    public void cumulative(int[] starts, int[] durations, int[] heights, int capacity, boolean redundant) {
+        int n = starts.length;
+        if (durations.length != n || heights.length != n) {
+            throw new IllegalArgumentException("cumulative needs a duration and a height per task");
+        }
+        int[] args = new int[2 * n + 1];
+        System.arraycopy(durations, 0, args, 0, n);
+        System.arraycopy(heights, 0, args, n, n);
+        args[2 * n] = capacity;
+        add(Kind.CUMULATIVE, starts.clone(), args, redundant);
+    }
+
+    public void phase(int[] vars, Order order) {
+        phases.add(new Phase(vars.clone(), order));
+    }
+
+    void add(Kind kind, int[] vars, int[] args, boolean redundant) {
+        for (int v : vars) {
+            if (v < 0 || v >= names.size()) {
+                throw new IllegalArgumentException("No variable " + v + " in " + name);
+            }
+        }
+        constraints.add(new Constraint(kind, vars.clone(), args, redundant));
+    }
+}
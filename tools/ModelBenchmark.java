@@ -0,0 +1,78 @@
+package org.csplib.tools;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ *
+ * JMH benchmark of a Definition on a Backend, with model construction
+ * and search measured apart:
+ *   build    declaring the model and posting it to the solver
+ *   search   the search alone, on a model loaded before the timer
+ *            starts (a new one per invocation, as a model is searched
+ *            once)
+ * definition is as in Definition.of; all searches every solution
+ * instead of the first. This is how prob007, prob009 and prob041 are
+ * benchmarked: their JaCoP models are in the default package, which
+ * JMH cannot generate code for, so the definitions stand in for them.
+ * Benchmarks runs it with the parameters of each problem.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ModelBenchmark {
+
+    @Param({ "allinterval:10" })
+    public String definition;
+
+    @Param({ "jacop", "ortools", "jsr331" })
+    public String backend;
+
+    @Param({ "true" })
+    public boolean all;
+
+    Definition d;
+    Backend b;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        d = Definition.of(definition);
+        b = Backend.of(backend);
+    }
+
+    @State(Scope.Thread)
+    public static class Loaded {
+        Backend.Instance instance;
+
+        @Setup(Level.Invocation)
+        public void load(ModelBenchmark m) {
+            instance = m.b.load(m.d.model());
+        }
+    }
+
+    @Benchmark
+    public Backend.Instance build() {
+        return b.load(d.model());
+    }
+
+    @Benchmark
+    public long search(Loaded loaded) {
+        return loaded.instance.search(all, values -> true).solutions;
+    }
+}
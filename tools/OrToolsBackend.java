@@ -0,0 +1,167 @@
+package org.csplib.tools;
+
+import com.google.ortools.constraintsolver.DecisionBuilder;
+import com.google.ortools.constraintsolver.IntVar;
+import com.google.ortools.constraintsolver.IntervalVar;
+import com.google.ortools.constraintsolver.Solver;
+
+/**
+ *
+ * Runs a Model on the OR-tools CP solver, with the constraints the
+ * OR-tools models in Problems/ use, plus
+ * makeNonOverlappingBoxesConstraint for diff2 and makeCumulative over
+ * fixed duration intervals. Each phase is a makePhase; the phases are
+ * composed in order and searched with nextSolution.
+ *
+ */
+public class OrToolsBackend implements Backend {
+
+    static {
+        System.loadLibrary("jniconstraintsolver");
+    }
+
+    public String name() {
+        return "ortools";
+    }
+
+    public Instance load(Model model) {
+        Solver solver = new Solver(model.name);
+        IntVar[] v = new IntVar[model.size()];
+        for (int i = 0; i < v.length; i++) {
+            v[i] = solver.makeIntVar(model.min(i), model.max(i), model.name(i));
+        }
+        for (Model.Constraint c : model.constraints()) {
+            switch (c.kind) {
+            case ALL_DIFFERENT:
+                solver.addConstraint(solver.makeAllDifferent(vars(v, c.vars, 0, c.vars.length), true));
+                break;
+            case ABS_DIFFERENCE:
+                solver.addConstraint(solver.makeEquality(v[c.vars[0]],
+                        solver.makeAbs(solver.makeDifference(v[c.vars[1]], v[c.vars[2]])).Var()));
+                break;
+            case LESS:
+                solver.addConstraint(solver.makeLess(v[c.vars[0]], v[c.vars[1]]));
+                break;
+            case LINEAR: {
+                int n = c.vars.length;
+                int[] coefficients = new int[n];
+                System.arraycopy(c.args, 0, coefficients, 0, n);
+                solver.addConstraint(solver.makeScalProdEquality(vars(v, c.vars, 0, n), coefficients, c.args[n]));
+                break;
+            }
+            case TIMES:
+                solver.addConstraint(solver.makeEquality(v[c.vars[0]], solver.makeProd(v[c.vars[1]], v[c.vars[2]]).Var()));
+                break;
+            case DIFF2: {
+                int n = c.args.length;
+                long[] sizes = new long[n];
+                for (int i = 0; i < n; i++) {
+                    sizes[i] = c.args[i];
+                }
+                solver.addConstraint(solver.makeNonOverlappingBoxesConstraint(
+                        vars(v, c.vars, 0, n), vars(v, c.vars, n, n), sizes, sizes));
+                break;
+            }
+            case CUMULATIVE: {
+                int n = c.vars.length;
+                IntervalVar[] tasks = new IntervalVar[n];
+                long[] heights = new long[n];
+                for (int i = 0; i < n; i++) {
+                    tasks[i] = solver.makeFixedDurationIntervalVar(v[c.vars[i]], c.args[i], "task" + i);
+                    heights[i] = c.args[n + i];
+                }
+                solver.addConstraint(solver.makeCumulative(tasks, heights, c.args[2 * n], "cumulative"));
+                break;
+            }
+            }
+        }
+        return new Instance() {
+            public Stats search(boolean all, Sink sink) {
+                return OrToolsBackend.search(solver, model, v, all, sink);
+            }
+
+            public Cursor solutions() {
+                return OrToolsBackend.solutions(solver, model, v);
+            }
+        };
+    }
+
+    static DecisionBuilder phases(Solver solver, Model model, IntVar[] v) {
+        if (model.phases().isEmpty()) {
+            throw new IllegalArgumentException(model.name + " has no phases to search");
+        }
+        DecisionBuilder[] phases = new DecisionBuilder[model.phases().size()];
+        for (int p = 0; p < phases.length; p++) {
+            Model.Phase phase = model.phases().get(p);
+            int order;
+            switch (phase.order) {
+            case MIN_DOMAIN:
+                order = Solver.CHOOSE_MIN_SIZE_LOWEST_MIN;
+                break;
+            case SMALLEST_MIN:
+                order = Solver.CHOOSE_LOWEST_MIN;
+                break;
+            default:
+                order = Solver.CHOOSE_FIRST_UNBOUND;
+                break;
+            }
+            phases[p] = solver.makePhase(vars(v, phase.vars, 0, phase.vars.length), order, Solver.ASSIGN_MIN_VALUE);
+        }
+        return phases.length == 1 ? phases[0] : solver.compose(phases);
+    }
+
+    static Stats search(Solver solver, Model model, IntVar[] v, boolean all, Sink sink) {
+        DecisionBuilder db = phases(solver, model, v);
+        long start = System.currentTimeMillis();
+        solver.newSearch(db);
+        int[] values = new int[v.length];
+        long found = 0;
+        while (solver.nextSolution()) {
+            for (int i = 0; i < v.length; i++) {
+                values[i] = (int) v[i].value();
+            }
+            found++;
+            if (!sink.solution(values) || !all) {
+                break;
+            }
+        }
+        solver.endSearch();
+        long searchTime = System.currentTimeMillis() - start;
+        return new Stats(found, solver.branches(), solver.failures(), searchTime);
+    }
+
+    // nextSolution is only called from next, so the search runs on the
+    // reader's thread and only as far as it reads
+    static Cursor solutions(Solver solver, Model model, IntVar[] v) {
+        DecisionBuilder db = phases(solver, model, v);
+        solver.newSearch(db);
+        int[] values = new int[v.length];
+        return new Cursor() {
+            public boolean next() {
+                if (!solver.nextSolution()) {
+                    return false;
+                }
+                for (int i = 0; i < v.length; i++) {
+                    values[i] = (int) v[i].value();
+                }
+                return true;
+            }
+
+            public int[] values() {
+                return values;
+            }
+
+            public void close() {
+                solver.endSearch();
+            }
+        };
+    }
+
+    static IntVar[] vars(IntVar[] v, int[] index, int from, int n) {
+        IntVar[] vars = new IntVar[n];
+        for (int i = 0; i < n; i++) {
+            vars[i] = v[index[from + i]];
+        }
+        return vars;
+    }
+}
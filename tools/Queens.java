@@ -0,0 +1,76 @@
+package org.csplib.tools;
+
+/**
+ *
+ * prob054, N Queens, as modelled in
+ * Problems/prob054/models/NQueens2_ortools.java: q[i] is the column of
+ * the queen in row i, and q[i], q[i] + i and q[i] - i are each all
+ * different, the diagonals through auxiliary variables. q is labelled
+ * fewest values first, smallest value first. The variables are q[0..n-1],
+ * then the diagonals.
+ *
+ */
+public class Queens implements Definition {
+    final int n;
+
+    public Queens(int n) {
+        if (n < 1) {
+            throw new IllegalArgumentException("N Queens needs n >= 1, not " + n);
+        }
+        this.n = n;
+    }
+
+    public Model model() {
+        Model m = new Model("Queens" + n);
+        int[] q = m.vars("q", n, 0, n - 1);
+        int[] up = new int[n];
+        int[] down = new int[n];
+        for (int i = 0; i < n; i++) {
+            up[i] = m.var("up" + i, i, n - 1 + i);
+            down[i] = m.var("down" + i, -i, n - 1 - i);
+            m.linear(new int[] { 1, -1 }, new int[] { up[i], q[i] }, i);
+            m.linear(new int[] { 1, -1 }, new int[] { down[i], q[i] }, -i);
+        }
+        m.allDifferent(q);
+        m.allDifferent(up);
+        m.allDifferent(down);
+        m.phase(q, Model.Order.MIN_DOMAIN);
+        return m;
+    }
+
+    /** O(n): one queen per column and per diagonal. */
+    public boolean check(int[] values) {
+        boolean[] column = new boolean[n];
+        boolean[] up = new boolean[2 * n];
+        boolean[] down = new boolean[2 * n];
+        for (int i = 0; i < n; i++) {
+            int c = values[i];
+            if (c < 0 || c >= n || column[c] || up[c + i] || down[c - i + n]) {
+                return false;
+            }
+            column[c] = true;
+            up[c + i] = true;
+            down[c - i + n] = true;
+        }
+        return true;
+    }
+
+    /** prefix is q[0..k-1]: no queen of it in v's column or diagonals. */
+    public boolean fits(int[] prefix, int v) {
+        int row = prefix.length;
+        for (int i = 0; i < row; i++) {
+            if (prefix[i] == v || Math.abs(prefix[i] - v) == row - i) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String format(int[] values) {
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            out.append(values[i]).append(' ');
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,80 @@
+package org.csplib.tools;
+
+/**
+ *
+ * Runs one problem definition on one backend or on all of them, so
+ * the backends can be compared on the same model. Every solution is
+ * checked; the first one is printed, then per backend the model time
+ * (load) and what the search measured.
+ *
+ * Usage:
+ *   Run <definition> [backend|all, default all] [all]
+ * with a definition as in Definition.of and all to search every
+ * solution instead of the first, e.g.
+ *   java -cp tools.jar:jacop-4.4.0.jar:com.google.ortools.jar:jsr331.jar \
+ *     org.csplib.tools.Run allinterval:12 all all
+ *   java ... org.csplib.tools.Run squares:instances.txt:3 jacop
+ *
+ */
+public class Run {
+
+    static void usage(String problem) {
+        System.err.println(problem);
+        System.err.println("Arguments: <allinterval:n | squares:N,s1,s2,... | squares:file[:line] | fractions"
+                + " | setpartition:n[,sets[,degree]] | queens:n>"
+                + " [jacop|ortools|jsr331|all] [all]");
+        System.exit(1);
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 3) {
+            usage("Expected 1 to 3 arguments, got " + args.length);
+        }
+        Definition definition = null;
+        try {
+            definition = Definition.of(args[0]);
+        } catch (IllegalArgumentException e) {
+            usage(e.getMessage());
+        }
+        String[] backends = Backend.NAMES;
+        if (args.length > 1 && !args[1].equals("all")) {
+            backends = new String[] { args[1] };
+        }
+        boolean all = false;
+        if (args.length > 2) {
+            if (!args[2].equals("all")) {
+                usage("Invalid third argument " + args[2] + ", use all or leave it out");
+            }
+            all = true;
+        }
+
+        for (String name : backends) {
+            Backend backend = null;
+            try {
+                backend = Backend.of(name);
+            } catch (IllegalArgumentException e) {
+                usage(e.getMessage());
+            }
+            System.out.println("Backend: " + name);
+            long start = System.currentTimeMillis();
+            Backend.Instance instance = backend.load(definition.model());
+            long modelTime = System.currentTimeMillis() - start;
+
+            Definition d = definition;
+            boolean[] printed = { false };
+            Stats stats = instance.search(all, values -> {
+                if (!d.check(values)) {
+                    throw new IllegalStateException("Invalid solution from " + name + ": " + d.format(values));
+                }
+                if (!printed[0]) {
+                    System.out.println(d.format(values));
+                    printed[0] = true;
+                }
+                return true;
+            });
+            System.out.println("Model time: " + modelTime + "ms");
+            stats.print();
+            System.out.println();
+        }
+    }
+}
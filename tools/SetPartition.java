@@ -0,0 +1,161 @@
+package org.csplib.tools;
+
+import java.util.Arrays;
+
+/**
+ *
+ * prob049, Number Partitioning, as modelled by defineLean in
+ * Problems/prob049/models/SetPartition_jsr331.java: a[i][k] is whether
+ * k+1 is in set i, every element is in exactly one set, and every set
+ * has the same share of the cardinality and of the power sums 1..degree
+ * of {1..n}. Set 0 holds 1, and set i (i >= 2) takes k+1 only if set
+ * i-1 holds one of 1..k, through a slack variable. The variables are
+ * a element by element (a[0][k], a[1][k], ...), labelled in that
+ * order, smallest value first, then the slacks.
+ *
+ */
+public class SetPartition implements Definition {
+    final int n;
+    final int sets;
+    final int degree;
+
+    public SetPartition(int n, int sets, int degree) {
+        if (n < 1 || sets < 2 || degree < 0) {
+            throw new IllegalArgumentException("A set partition needs n >= 1, sets >= 2 and degree >= 0");
+        }
+        this.n = n;
+        this.sets = sets;
+        this.degree = degree;
+    }
+
+    public Model model() {
+        Model m = new Model("SetPartition" + n);
+        int[][] a = new int[sets][n];
+        int[] order = new int[sets * n];
+        for (int k = 0; k < n; k++) {
+            for (int i = 0; i < sets; i++) {
+                a[i][k] = m.var("a-" + i + "-" + k, 0, 1);
+                order[k * sets + i] = a[i][k];
+            }
+        }
+
+        // every element in exactly one set
+        int[] ones = new int[sets];
+        Arrays.fill(ones, 1);
+        int[] column = new int[sets];
+        for (int k = 0; k < n; k++) {
+            for (int i = 0; i < sets; i++) {
+                column[i] = a[i][k];
+            }
+            m.linear(ones, column, 1);
+        }
+
+        // the same share of the cardinality (d = 0) and the power sums
+        for (int d = 0; d <= degree; d++) {
+            int[] weights = new int[n];
+            long total = 0;
+            for (int k = 0; k < n; k++) {
+                long w = 1;
+                for (int e = 0; e < d; e++) {
+                    w *= k + 1;
+                }
+                if (w > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException((k + 1) + "^" + d + " does not fit in an int weight");
+                }
+                weights[k] = (int) w;
+                total += w;
+            }
+            if (total / sets > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("The share of the sum of (1.." + n + ")^" + d + " does not fit in an int");
+            }
+            if (total % sets != 0) {
+                // no equal shares: 0 = 1, so that there is no solution
+                m.linear(new int[] { 0 }, new int[] { a[0][0] }, 1);
+                continue;
+            }
+            for (int i = 0; i < sets; i++) {
+                m.linear(weights, a[i], (int) (total / sets));
+            }
+        }
+
+        // symmetry breaking: a[i][k] + slack = a[i-1][0] + ... + a[i-1][k-1]
+        m.equal(a[0][0], 1);
+        for (int i = 2; i < sets; i++) {
+            for (int k = 1; k < n; k++) {
+                int slack = m.var("slack-" + i + "-" + k, 0, k);
+                int[] coefficients = new int[k + 2];
+                int[] vars = new int[k + 2];
+                coefficients[0] = 1;
+                vars[0] = a[i][k];
+                coefficients[1] = 1;
+                vars[1] = slack;
+                for (int j = 0; j < k; j++) {
+                    coefficients[j + 2] = -1;
+                    vars[j + 2] = a[i - 1][j];
+                }
+                m.linear(coefficients, vars, 0);
+            }
+        }
+        m.phase(order, Model.Order.INPUT_ORDER);
+        return m;
+    }
+
+    /** Every element in one set, the sets' power sums equal up to degree. */
+    public boolean check(int[] values) {
+        for (int k = 0; k < n; k++) {
+            int in = 0;
+            for (int i = 0; i < sets; i++) {
+                in += values[k * sets + i];
+            }
+            if (in != 1) {
+                return false;
+            }
+        }
+        for (int d = 0; d <= degree; d++) {
+            long first = 0;
+            for (int i = 0; i < sets; i++) {
+                long sum = 0;
+                for (int k = 0; k < n; k++) {
+                    if (values[k * sets + i] == 1) {
+                        long w = 1;
+                        for (int e = 0; e < d; e++) {
+                            w *= k + 1;
+                        }
+                        sum += w;
+                    }
+                }
+                if (i == 0) {
+                    first = sum;
+                } else if (sum != first) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /** prefix is a element by element: every element in one set, at most. */
+    public boolean fits(int[] prefix, int v) {
+        int k = prefix.length / sets;
+        int in = v;
+        for (int i = k * sets; i < prefix.length; i++) {
+            in += prefix[i];
+        }
+        // with v, the element's last set is fixed
+        return prefix.length % sets == sets - 1 ? in == 1 : in <= 1;
+    }
+
+    public String format(int[] values) {
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < sets; i++) {
+            out.append('{');
+            for (int k = 0; k < n; k++) {
+                if (values[k * sets + i] == 1) {
+                    out.append(' ').append(k + 1);
+                }
+            }
+            out.append(" } ");
+        }
+        return out.toString();
+    }
+}
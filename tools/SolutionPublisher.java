@@ -0,0 +1,219 @@
+package org.csplib.tools;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+/**
+ *
+ * The solutions of a search as a Flow.Publisher. Every subscriber gets
+ * its own search, a Cursor from search, read on its own thread. Each
+ * solution is a new int[], checked by the cursor before it is sent.
+ *
+ * The search is driven by demand. The cursor is advanced once, to
+ * learn whether there is another solution: if not, the subscriber gets
+ * onComplete at once, whatever its demand; if so, the solution is held
+ * until the subscriber has requested it. So the search runs at most one
+ * solution ahead of demand, a slow subscriber slows it down and nothing
+ * else is buffered. Cancelling the subscription closes the cursor.
+ *
+ * NQueensPublisher (prob054) and Jsr331Publisher (prob049) publish
+ * the models there; main publishes a Definition on a backend.
+ *
+ * Usage: SolutionPublisher <definition> [backend, default jacop] [batch] [delay_ms]
+ * with a definition as in Definition.of; runs consume.
+ *
+ */
+public class SolutionPublisher implements Flow.Publisher<int[]> {
+    final String name;
+    final Supplier<Cursor> search;
+
+    public SolutionPublisher(String name, Supplier<Cursor> search) {
+        this.name = name;
+        this.search = search;
+    }
+
+    public void subscribe(Flow.Subscriber<? super int[]> subscriber) {
+        Thread thread = new Thread(new Subscription(subscriber), name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    class Subscription implements Flow.Subscription, Runnable {
+        final Flow.Subscriber<? super int[]> subscriber;
+        long demand;
+        boolean cancelled;
+        IllegalArgumentException error;
+
+        Subscription(Flow.Subscriber<? super int[]> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        public synchronized void request(long k) {
+            if (k <= 0) {
+                error = new IllegalArgumentException("non-positive request: " + k);
+            } else {
+                demand += k;
+                if (demand < 0) {
+                    // more than Long.MAX_VALUE requested in total: unbounded
+                    demand = Long.MAX_VALUE;
+                }
+            }
+            notifyAll();
+        }
+
+        public synchronized void cancel() {
+            cancelled = true;
+            notifyAll();
+        }
+
+        synchronized boolean open() {
+            return !cancelled && error == null;
+        }
+
+        // Waits for demand, and takes one solution of it. Returns false
+        // when the subscription has been cancelled or has failed.
+        synchronized boolean take() throws InterruptedException {
+            while (demand == 0 && open()) {
+                wait();
+            }
+            if (!open()) {
+                return false;
+            }
+            if (demand != Long.MAX_VALUE) {
+                demand--;
+            }
+            return true;
+        }
+
+        public void run() {
+            subscriber.onSubscribe(this);
+            Cursor cursor = null;
+            try {
+                cursor = search.get();
+                while (open()) {
+                    if (!cursor.next()) {
+                        if (open()) {
+                            subscriber.onComplete();
+                        }
+                        return;
+                    }
+                    int[] sol = cursor.values().clone();
+                    if (!take()) {
+                        break;
+                    }
+                    subscriber.onNext(sol);
+                }
+                synchronized (this) {
+                    if (error != null) {
+                        subscriber.onError(error);
+                    }
+                }
+            } catch (Throwable e) {
+                subscriber.onError(e);
+            } finally {
+                if (cursor != null) {
+                    cursor.close();
+                }
+            }
+        }
+    }
+
+    /**
+     *
+     * A Cursor over definition on backend that checks every solution
+     * before returning it.
+     *
+     */
+    public static Cursor checked(Definition definition, Backend backend) {
+        Cursor cursor = backend.load(definition.model()).solutions();
+        return new Cursor() {
+            public boolean next() {
+                if (!cursor.next()) {
+                    return false;
+                }
+                if (!definition.check(cursor.values())) {
+                    throw new IllegalStateException("invalid solution: " + definition.format(cursor.values()));
+                }
+                return true;
+            }
+
+            public int[] values() {
+                return cursor.values();
+            }
+
+            public void close() {
+                cursor.close();
+            }
+        };
+    }
+
+    /**
+     *
+     * Subscribes to publisher with a subscriber that requests batch
+     * solutions at a time and sleeps delay ms per solution, waits until
+     * the stream ends and prints the number of solutions and the wall
+     * time.
+     *
+     */
+    public static void consume(Flow.Publisher<int[]> publisher, int batch, long delay) throws InterruptedException {
+        final CountDownLatch done = new CountDownLatch(1);
+        final long start = System.currentTimeMillis();
+        publisher.subscribe(new Flow.Subscriber<int[]>() {
+            Flow.Subscription subscription;
+            long count;
+            int left;
+
+            public void onSubscribe(Flow.Subscription s) {
+                subscription = s;
+                left = batch;
+                s.request(batch);
+            }
+
+            public void onNext(int[] sol) {
+                count++;
+                if (delay > 0) {
+                    try {
+                        Thread.sleep(delay);
+                    } catch (InterruptedException e) {
+                        subscription.cancel();
+                    }
+                }
+                if (--left == 0) {
+                    left = batch;
+                    subscription.request(batch);
+                }
+            }
+
+            public void onError(Throwable e) {
+                System.out.println("Error: " + e);
+                done.countDown();
+            }
+
+            public void onComplete() {
+                System.out.println("Solutions: " + count);
+                done.countDown();
+            }
+        });
+        done.await();
+        System.out.println("Wall time: " + (System.currentTimeMillis() - start) + "ms");
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length < 1 || args.length > 4) {
+            System.err.println("Arguments: <allinterval:n | squares:N,s1,s2,... | squares:file[:line] | fractions"
+                    + " | setpartition:n[,sets[,degree]] | queens:n>"
+                    + " [jacop|ortools|jsr331] [batch] [delay_ms]");
+            System.exit(1);
+        }
+        Definition definition = Definition.of(args[0]);
+        Backend backend = Backend.of(args.length > 1 ? args[1] : "jacop");
+        int batch = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+        long delay = args.length > 3 ? Long.parseLong(args[3]) : 0;
+        if (batch <= 0 || delay < 0) {
+            System.err.println("batch must be positive and delay_ms not negative");
+            System.exit(1);
+        }
+        consume(new SolutionPublisher(args[0], () -> checked(definition, backend)), batch, delay);
+    }
+}
@@ -0,0 +1,136 @@
+package org.csplib.tools;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ *
+ * prob009, Perfect Square Placement, as modelled by the default
+ * profile of Problems/prob009/models/prob009.java: diff2 over the
+ * squares plus a redundant cumulative along each axis, X then Y
+ * labelled smallest minimum first. The squares are sorted largest
+ * first; the variables are X[0..n-1] then Y[0..n-1].
+ *
+ */
+public class SquarePlacement implements Definition {
+    final int N;
+    final int[] S;
+
+    public SquarePlacement(int N, int[] sizes) {
+        if (sizes.length == 0) {
+            throw new IllegalArgumentException("No squares to place");
+        }
+        S = sizes.clone();
+        Arrays.sort(S);
+        for (int i = 0, j = S.length - 1; i < j; i++, j--) {
+            int t = S[i];
+            S[i] = S[j];
+            S[j] = t;
+        }
+        if (S[S.length - 1] < 1 || S[0] > N) {
+            throw new IllegalArgumentException("Square sizes must be 1.." + N);
+        }
+        this.N = N;
+    }
+
+    /**
+     *
+     * An instance given inline as "N,s1,s2,..." or as file[:line], a
+     * line "N s1 s2 ... sk" of a file written by InstanceGenerator,
+     * counting lines that are neither empty nor comments.
+     *
+     */
+    static SquarePlacement parse(String spec) {
+        if (spec.matches("\\d+(,\\d+)+")) {
+            return of(spec.split(","));
+        }
+        String path = spec;
+        int line = 0;
+        int colon = spec.lastIndexOf(':');
+        if (colon > 0 && spec.substring(colon + 1).matches("\\d{1,9}")) {
+            path = spec.substring(0, colon);
+            line = Integer.parseInt(spec.substring(colon + 1));
+        }
+        List<String> instances = new ArrayList<>();
+        try {
+            for (String l : Files.readAllLines(Paths.get(path))) {
+                l = l.trim();
+                if (!l.isEmpty() && !l.startsWith("#")) {
+                    instances.add(l);
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Cannot read instance file " + path + ": " + e);
+        }
+        if (line >= instances.size()) {
+            throw new IllegalArgumentException(path + " has " + instances.size() + " instances, no line " + line);
+        }
+        return of(instances.get(line).split("\\s+"));
+    }
+
+    static SquarePlacement of(String[] f) {
+        try {
+            int[] sizes = new int[f.length - 1];
+            for (int i = 1; i < f.length; i++) {
+                sizes[i - 1] = Integer.parseInt(f[i]);
+            }
+            return new SquarePlacement(Integer.parseInt(f[0]), sizes);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("An instance is N s1 s2 ... sk: " + e.getMessage());
+        }
+    }
+
+    public Model model() {
+        int n = S.length;
+        Model m = new Model("SquarePlacement" + N);
+        int[] X = new int[n];
+        int[] Y = new int[n];
+        for (int i = 0; i < n; i++) {
+            X[i] = m.var("X" + i, 0, N - S[i]);
+        }
+        for (int i = 0; i < n; i++) {
+            Y[i] = m.var("Y" + i, 0, N - S[i]);
+        }
+        m.diff2(X, Y, S);
+        m.cumulative(X, S, S, N, true);
+        m.cumulative(Y, S, S, N, true);
+        m.phase(X, Model.Order.SMALLEST_MIN);
+        m.phase(Y, Model.Order.SMALLEST_MIN);
+        return m;
+    }
+
+    /** Inside the master square, no two squares overlapping, areas adding up to N^2. */
+    public boolean check(int[] values) {
+        int n = S.length;
+        long area = 0;
+        for (int i = 0; i < n; i++) {
+            int x = values[i];
+            int y = values[n + i];
+            if (x < 0 || y < 0 || x + S[i] > N || y + S[i] > N) {
+                return false;
+            }
+            area += (long) S[i] * S[i];
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (values[i] < values[j] + S[j] && values[j] < values[i] + S[i]
+                        && values[n + i] < values[n + j] + S[j] && values[n + j] < values[n + i] + S[i]) {
+                    return false;
+                }
+            }
+        }
+        return area == (long) N * N;
+    }
+
+    public String format(int[] values) {
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < S.length; i++) {
+            out.append(S[i]).append('@').append(values[i]).append(',').append(values[S.length + i]).append(' ');
+        }
+        return out.toString();
+    }
+}
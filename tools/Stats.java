@@ -0,0 +1,32 @@
+package org.csplib.tools;
+
+/**
+ *
+ * What a search measured. nodes and failures are -1 when the backend
+ * does not count them; they are then not printed.
+ *
+ */
+public class Stats {
+    public final long solutions;
+    public final long nodes;
+    public final long failures;
+    public final long searchTime; // ms
+
+    public Stats(long solutions, long nodes, long failures, long searchTime) {
+        this.solutions = solutions;
+        this.nodes = nodes;
+        this.failures = failures;
+        this.searchTime = searchTime;
+    }
+
+    public void print() {
+        System.out.println("Solutions: " + solutions);
+        if (nodes >= 0) {
+            System.out.println("Nodes: " + nodes);
+        }
+        if (failures >= 0) {
+            System.out.println("Failures: " + failures);
+        }
+        System.out.println("Search time: " + searchTime + "ms");
+    }
+}
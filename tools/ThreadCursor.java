@@ -0,0 +1,87 @@
+package org.csplib.tools;
+
+/**
+ *
+ * A Cursor over a search that pushes its solutions to a Sink, as
+ * JaCoP's does. The search runs on its own thread, started by the
+ * first next, and its sink blocks after each solution until next is
+ * called again, so it is never more than one solution ahead. close
+ * makes the blocked sink return false, which stops the search.
+ *
+ */
+class ThreadCursor implements Cursor {
+    final Backend.Instance instance;
+    Thread thread;
+    int[] values;
+    boolean ready;
+    boolean done;
+    boolean closed;
+    RuntimeException failure;
+
+    ThreadCursor(Backend.Instance instance) {
+        this.instance = instance;
+    }
+
+    public synchronized boolean next() {
+        if (thread == null) {
+            thread = new Thread(this::search, "ThreadCursor");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        ready = false;
+        notifyAll();
+        try {
+            while (!ready && !done) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            return false;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return ready;
+    }
+
+    public synchronized int[] values() {
+        return values;
+    }
+
+    public synchronized void close() {
+        closed = true;
+        notifyAll();
+    }
+
+    void search() {
+        try {
+            instance.search(true, this::offer);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                failure = e;
+            }
+        } finally {
+            synchronized (this) {
+                done = true;
+                notifyAll();
+            }
+        }
+    }
+
+    // on the search thread: hands values over and waits until they are
+    // taken; false stops the search
+    synchronized boolean offer(int[] values) {
+        this.values = values;
+        ready = true;
+        notifyAll();
+        try {
+            while (ready && !closed) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            return false;
+        }
+        return !closed;
+    }
+}
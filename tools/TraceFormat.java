@@ -0,0 +1,88 @@
+package org.csplib.tools;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ *
+ * The binary search-tree log written by NQueensTrace (prob054/tools,
+ * OR-tools) and SearchTrace (prob009/tools, JaCoP) and read by
+ * NQueensTrace's report. A header
+ *   MAGIC "NQTR", VERSION, sample, the number of variables, their names
+ * is followed by one record per event:
+ *   'A' depth var   decision applied     (5 bytes)
+ *   'R' depth var   decision refuted     (5 bytes)
+ *   'F' depth var   failure              (5 bytes)
+ *   'S' depth       solution             (3 bytes)
+ * depth and var are shorts. var is the index of the decision's variable,
+ * for a failure the one of the last decision before it, whether or not
+ * that decision was sampled; -1 if there is none. With sample k, only
+ * every k-th decision and every k-th failure is written; solutions
+ * always are.
+ *
+ */
+public final class TraceFormat {
+    public static final int MAGIC = 0x4e515452; // "NQTR"
+    public static final int VERSION = 3;
+
+    public static final int APPLY = 'A';
+    public static final int REFUTE = 'R';
+    public static final int FAIL = 'F';
+    public static final int SOLUTION = 'S';
+
+    private TraceFormat() {
+    }
+
+    /** The sample and the variable names of a log. */
+    public static final class Header {
+        public final int sample;
+        public final String[] names;
+
+        Header(int sample, String[] names) {
+            this.sample = sample;
+            this.names = names;
+        }
+    }
+
+    public static void writeHeader(DataOutputStream out, int sample, String[] names) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(sample);
+        out.writeInt(names.length);
+        for (String name : names) {
+            out.writeUTF(name);
+        }
+    }
+
+    /** Reads the header, or throws IOException if in is not a log of this version. */
+    public static Header readHeader(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("not a search trace log");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("search trace log version " + version + ", expected " + VERSION);
+        }
+        int sample = in.readInt();
+        String[] names = new String[in.readInt()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = in.readUTF();
+        }
+        return new Header(sample, names);
+    }
+
+    /** Writes a record; var is left out for a solution. */
+    public static void write(DataOutputStream out, int tag, int depth, int var) throws IOException {
+        out.writeByte(tag);
+        out.writeShort(depth);
+        if (tag != SOLUTION) {
+            out.writeShort(var);
+        }
+    }
+
+    /** Whether records with tag carry a var. */
+    public static boolean hasVar(int tag) {
+        return tag == APPLY || tag == REFUTE || tag == FAIL;
+    }
+}